@@ -0,0 +1,107 @@
+package org.likelionhsu.backend.ai;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.likelionhsu.backend.ai.dto.AiSearchJob;
+import org.likelionhsu.backend.ai.dto.AiSearchRequest;
+import org.likelionhsu.backend.ai.service.AiSearchJobService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 검색 비동기 작업 API
+ *  - POST /jobs          : 작업 생성(같은 질의는 기존 작업 공유) → 202 + jobId
+ *  - GET  /jobs/{id}     : 상태/부분 결과 조회, wait(초) 지정 시 다음 갱신까지 long-poll
+ *  - GET  /jobs/{id}/events : SSE 로 상태/부분 결과 스트리밍, 완료 시 스트림 종료
+ * 요청 스레드는 즉시 반환되고, 요약 체인은 aiJobExecutor 에서 실행된다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/ai-search/jobs")
+public class AiSearchJobController {
+
+    private static final long MAX_WAIT_SECONDS = 30;
+    private static final long SSE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final AiSearchJobService jobService;
+
+    @PostMapping
+    public ResponseEntity<AiSearchJob> create(@RequestBody AiSearchRequest req,
+                                              @RequestParam(defaultValue = "detail") String mode) {
+        if (req == null || StringUtils.isBlank(req.getQuery())) return ResponseEntity.badRequest().build();
+
+        AiSearchJob.Mode m;
+        try {
+            m = AiSearchJob.Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        int n = (req.getMaxExternal() == null || req.getMaxExternal() <= 0) ? 3 : req.getMaxExternal();
+
+        AiSearchJob job = jobService.submit(m, req.getQuery(), n);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/ai-search/jobs/" + job.jobId()))
+                .body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public DeferredResult<ResponseEntity<AiSearchJob>> get(@PathVariable String jobId,
+                                                           @RequestParam(defaultValue = "0") long wait) {
+        long waitSeconds = Math.min(Math.max(0, wait), MAX_WAIT_SECONDS);
+        AiSearchJob current = jobService.get(jobId);
+
+        DeferredResult<ResponseEntity<AiSearchJob>> result =
+                new DeferredResult<>(TimeUnit.SECONDS.toMillis(Math.max(1, waitSeconds)));
+        if (waitSeconds == 0 || current.isTerminal()) {
+            result.setResult(ResponseEntity.ok(current));
+            return result;
+        }
+
+        Runnable unsubscribe = jobService.subscribe(jobId, job -> result.setResult(ResponseEntity.ok(job)));
+        result.onTimeout(() -> result.setResult(ResponseEntity.ok(jobService.find(jobId).orElse(current))));
+        result.onCompletion(unsubscribe);
+        // 구독 직전에 끝났을 수 있으므로 한 번 더 확인
+        jobService.find(jobId)
+                .filter(AiSearchJob::isTerminal)
+                .ifPresent(job -> result.setResult(ResponseEntity.ok(job)));
+        return result;
+    }
+
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String jobId) {
+        AiSearchJob current = jobService.get(jobId);
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+        if (!send(emitter, current)) return emitter;
+
+        Runnable unsubscribe = jobService.subscribe(jobId, job -> send(emitter, job));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        jobService.find(jobId)
+                .filter(AiSearchJob::isTerminal)
+                .ifPresent(job -> send(emitter, job));
+        return emitter;
+    }
+
+    /** 전송 후 종료 상태면 스트림을 닫는다. 계속 보낼 수 있으면 true */
+    private static boolean send(SseEmitter emitter, AiSearchJob job) {
+        try {
+            emitter.send(SseEmitter.event().name("job").data(job, MediaType.APPLICATION_JSON));
+            if (job.isTerminal()) {
+                emitter.complete();
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.likelionhsu.backend.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 검색 비동기 작업 상태 (Redis 에 TTL 로 저장)
+ *  - partial : per-doc 요약이 끝나는 대로 누적되는 부분 결과
+ *  - summary / detail : mode 에 따라 둘 중 하나만 채워지는 최종 결과
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AiSearchJob(
+        String jobId,
+        Mode mode,
+        String query,
+        int maxExternal,
+        Status status,
+        List<PerDocSummary> partial,
+        AiSearchResponse summary,
+        AiSearchDetailedResponse detail,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public enum Mode { SIMPLE, DETAIL }
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED;
+
+        public boolean terminal() {
+            return this == DONE || this == FAILED;
+        }
+    }
+
+    public static AiSearchJob queued(String jobId, Mode mode, String query, int maxExternal) {
+        Instant now = Instant.now();
+        return new AiSearchJob(jobId, mode, query, maxExternal, Status.QUEUED,
+                List.of(), null, null, null, now, now);
+    }
+
+    public AiSearchJob running() {
+        return new AiSearchJob(jobId, mode, query, maxExternal, Status.RUNNING,
+                partial, null, null, null, createdAt, Instant.now());
+    }
+
+    public AiSearchJob withPartial(PerDocSummary item) {
+        List<PerDocSummary> next = new ArrayList<>(partial == null ? List.of() : partial);
+        next.add(item);
+        return new AiSearchJob(jobId, mode, query, maxExternal, status,
+                List.copyOf(next), summary, detail, error, createdAt, Instant.now());
+    }
+
+    public AiSearchJob done(AiSearchResponse summary, AiSearchDetailedResponse detail) {
+        return new AiSearchJob(jobId, mode, query, maxExternal, Status.DONE,
+                partial, summary, detail, null, createdAt, Instant.now());
+    }
+
+    public AiSearchJob failed(String error) {
+        return new AiSearchJob(jobId, mode, query, maxExternal, Status.FAILED,
+                partial, null, null, error, createdAt, Instant.now());
+    }
+
+    @JsonIgnore
+    public boolean isTerminal() {
+        return status != null && status.terminal();
+    }
+}
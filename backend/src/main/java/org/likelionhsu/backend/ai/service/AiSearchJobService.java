@@ -0,0 +1,235 @@
+package org.likelionhsu.backend.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.likelionhsu.backend.ai.dto.AiSearchDetailedResponse;
+import org.likelionhsu.backend.ai.dto.AiSearchJob;
+import org.likelionhsu.backend.ai.dto.AiSearchResponse;
+import org.likelionhsu.backend.ai.dto.PerDocSummary;
+import org.likelionhsu.backend.common.exception.ErrorCode;
+import org.likelionhsu.backend.common.exception.customexception.AiJobCustomException;
+import org.likelionhsu.backend.naversearch.service.QueryNormalizer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * AI 검색 비동기 작업 관리
+ *  - 작업 ID = (mode, maxExternal, QueryNormalizer 키) 해시 → 같은 질의는 같은 작업으로 합쳐진다(TTL 동안 결과 재사용)
+ *  - 상태/부분 결과/최종 결과는 Redis(aijob:{id})에 TTL 로 저장
+ *  - 상태 변경은 Redis pub/sub 으로 전 노드에 전파 → 각 노드의 long-poll/SSE 구독자에게 전달
+ *  - 실행은 bounded aiJobExecutor 에서만, 대기열이 차면 503(AI_JOB_QUEUE_FULL)
+ */
+@Slf4j
+@Service
+public class AiSearchJobService {
+
+    private static final String KEY_PREFIX = "aijob:";
+    private static final String CHANNEL = "aijob:events";
+
+    /** 읽어 둔 값 그대로일 때만 교체 (실패/정체 작업 재시작을 한 제출자만 가져가도록) */
+    private static final DefaultRedisScript<Long> REPLACE_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 else return 0 end",
+            Long.class);
+
+    private final SummarizationOrchestrator orchestrator;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final QueryNormalizer queryNormalizer;
+
+    /** 이 노드에 붙어 있는 구독자 (jobId → listeners) */
+    private final Map<String, Set<Consumer<AiSearchJob>>> listeners = new ConcurrentHashMap<>();
+
+    @Value("${ai.job.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    /** QUEUED/RUNNING 인데 이 시간 이상 갱신이 없으면(노드 종료 등) 재제출 허용 */
+    @Value("${ai.job.stale-minutes:10}")
+    private long staleMinutes;
+
+    public AiSearchJobService(SummarizationOrchestrator orchestrator,
+                              StringRedisTemplate redis,
+                              ObjectMapper objectMapper,
+                              @Qualifier("aiJobExecutor") ThreadPoolTaskExecutor executor,
+                              RedisMessageListenerContainer listenerContainer,
+                              QueryNormalizer queryNormalizer) {
+        this.orchestrator = orchestrator;
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.listenerContainer = listenerContainer;
+        this.queryNormalizer = queryNormalizer;
+    }
+
+    @PostConstruct
+    void listenEvents() {
+        listenerContainer.addMessageListener((message, pattern) -> onEvent(message.getBody()), new ChannelTopic(CHANNEL));
+    }
+
+    /* ========================= 제출/조회 ========================= */
+
+    public AiSearchJob submit(AiSearchJob.Mode mode, String query, int maxExternal) {
+        final String q = StringUtils.defaultString(query).trim();
+        final int n = maxExternal <= 0 ? 3 : Math.min(maxExternal, 10);
+        final String jobId = jobId(mode, queryNormalizer.key(q), n);
+
+        AiSearchJob fresh = AiSearchJob.queued(jobId, mode, q, n);
+        AiSearchJob shared = claim(fresh);
+        if (shared != null) return shared; // 중복 제출 → 기존 작업 공유
+
+        try {
+            executor.execute(() -> run(fresh));
+        } catch (TaskRejectedException e) {
+            // 이미 이 작업에 합류한 구독자가 있을 수 있으므로 지우지 않고 FAILED 로 남긴다 (다음 제출이 재시작)
+            save(fresh.failed("queue full"));
+            throw new AiJobCustomException(ErrorCode.AI_JOB_QUEUE_FULL);
+        }
+        return fresh;
+    }
+
+    /**
+     * 새 작업으로 등록하거나, 실패/정체된 기존 작업을 원자적으로 새 작업으로 교체한다.
+     * @return 이 호출이 실행권을 얻었으면 null, 아니면 공유할 기존(또는 다른 제출자가 먼저 교체한) 작업
+     */
+    private AiSearchJob claim(AiSearchJob fresh) {
+        String k = key(fresh.jobId());
+        String json = write(fresh);
+        for (int attempt = 0; attempt < 3; attempt++) {
+            if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(k, json, ttl()))) return null;
+            String raw = redis.opsForValue().get(k);
+            if (raw == null) continue; // 그 사이 만료됨 → 다시 등록 시도
+            AiSearchJob existing = read(raw);
+            if (existing != null && !restartable(existing)) return existing;
+            Long replaced = redis.execute(REPLACE_IF_UNCHANGED, List.of(k), raw, json, String.valueOf(ttl().toMillis()));
+            if (replaced != null && replaced == 1L) {
+                redis.convertAndSend(CHANNEL, json);
+                return null;
+            }
+            // 다른 제출자가 먼저 재시작했거나 상태가 바뀜 → 다시 읽어 판단
+        }
+        // 경합이 계속되면 그 시점 작업을 공유, 그마저 없으면 잠시 뒤 재시도하도록 503
+        return find(fresh.jobId()).orElseThrow(() -> new AiJobCustomException(ErrorCode.AI_JOB_QUEUE_FULL));
+    }
+
+    public AiSearchJob get(String jobId) {
+        return find(jobId).orElseThrow(() -> new AiJobCustomException(ErrorCode.AI_JOB_NOT_FOUND));
+    }
+
+    public Optional<AiSearchJob> find(String jobId) {
+        if (StringUtils.isBlank(jobId)) return Optional.empty();
+        return Optional.ofNullable(redis.opsForValue().get(key(jobId))).map(this::read);
+    }
+
+    /** 상태 변경 구독. 반환값을 실행하면 구독 해제 */
+    public Runnable subscribe(String jobId, Consumer<AiSearchJob> listener) {
+        listeners.computeIfAbsent(jobId, k -> ConcurrentHashMap.newKeySet()).add(listener);
+        return () -> listeners.computeIfPresent(jobId, (k, set) -> {
+            set.remove(listener);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /* ========================= 실행 ========================= */
+
+    private void run(AiSearchJob queued) {
+        AtomicReference<AiSearchJob> current = new AtomicReference<>(queued.running());
+        save(current.get());
+        try {
+            Consumer<PerDocSummary> onItem = item -> save(current.updateAndGet(j -> j.withPartial(item)));
+            AiSearchJob done;
+            if (queued.mode() == AiSearchJob.Mode.SIMPLE) {
+                AiSearchResponse res = orchestrator.summarize(queued.query(), queued.maxExternal(), onItem);
+                done = current.get().done(res, null);
+            } else {
+                AiSearchDetailedResponse res = orchestrator.summarizeDetailed(queued.query(), queued.maxExternal(), onItem);
+                done = current.get().done(null, res);
+            }
+            save(done);
+        } catch (Exception e) {
+            log.warn("[AI-JOB] {} failed: {}", queued.jobId(), e.toString());
+            save(current.get().failed(StringUtils.defaultIfBlank(e.getMessage(), e.getClass().getSimpleName())));
+        }
+    }
+
+    private boolean restartable(AiSearchJob job) {
+        if (job.status() == AiSearchJob.Status.FAILED) return true;
+        if (job.isTerminal() || job.updatedAt() == null) return false;
+        return job.updatedAt().isBefore(Instant.now().minus(Duration.ofMinutes(staleMinutes)));
+    }
+
+    /* ========================= 저장/전파 ========================= */
+
+    private void save(AiSearchJob job) {
+        String json = write(job);
+        redis.opsForValue().set(key(job.jobId()), json, ttl());
+        redis.convertAndSend(CHANNEL, json);
+    }
+
+    private void onEvent(byte[] body) {
+        AiSearchJob job = read(new String(body, StandardCharsets.UTF_8));
+        if (job == null) return;
+        Set<Consumer<AiSearchJob>> set = listeners.get(job.jobId());
+        if (set == null) return;
+        for (Consumer<AiSearchJob> l : set) {
+            try {
+                l.accept(job);
+            } catch (Exception e) {
+                log.debug("[AI-JOB] listener error {}: {}", job.jobId(), e.toString());
+            }
+        }
+    }
+
+    private String write(AiSearchJob job) {
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (Exception e) {
+            throw new IllegalStateException("AI 작업 직렬화 실패: " + job.jobId(), e);
+        }
+    }
+
+    private AiSearchJob read(String json) {
+        try {
+            return objectMapper.readValue(json, AiSearchJob.class);
+        } catch (Exception e) {
+            log.warn("[AI-JOB] 역직렬화 실패: {}", e.toString());
+            return null;
+        }
+    }
+
+    /* ========================= helpers ========================= */
+
+    private Duration ttl() {
+        return Duration.ofMinutes(Math.max(1, ttlMinutes));
+    }
+
+    private static String key(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+
+    private static String jobId(AiSearchJob.Mode mode, String canonicalQuery, int n) {
+        String dedupeKey = mode + "::" + n + "::" + canonicalQuery;
+        return DigestUtils.sha256Hex(dedupeKey).substring(0, 24);
+    }
+}
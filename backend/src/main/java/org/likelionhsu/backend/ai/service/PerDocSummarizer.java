@@ -3,6 +3,7 @@ package org.likelionhsu.backend.ai.service;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.likelionhsu.backend.ai.dto.PerDocSummary;
+import org.likelionhsu.backend.common.exception.customexception.FlaskOverloadedException;
 import org.likelionhsu.backend.flask.FlaskSummarizeClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -35,8 +36,23 @@ public class PerDocSummarizer {
     private static final Pattern REPEATED_CHAR =
             Pattern.compile("([\\p{IsHangul}A-Za-z0-9])\\1{2,}");
 
+    /**
+     * 모델 서버 과부하(FlaskOverloadedException)는 흡수하지 않고 전파한다.
+     * 호출부가 {@link #passthrough} 로 폴백할지, 요청 자체를 실패시킬지 결정한다.
+     */
     public PerDocSummary summarizeOne(String url, String title, String sourceType,
                                       String publishedAt, String body) {
+        return summarize(url, title, sourceType, publishedAt, body, true);
+    }
+
+    /** 모델 호출 없이 "원문(클린 + 클립)"만으로 결과 구성 (과부하 시 폴백용) */
+    public PerDocSummary passthrough(String url, String title, String sourceType,
+                                     String publishedAt, String body) {
+        return summarize(url, title, sourceType, publishedAt, body, false);
+    }
+
+    private PerDocSummary summarize(String url, String title, String sourceType,
+                                    String publishedAt, String body, boolean useModel) {
 
         final String safeTitle = safe(title);
         final String safeBody  = safe(body);
@@ -51,7 +67,7 @@ public class PerDocSummarizer {
         boolean bypassed = false;
 
         // ✅ 1) 짧은 글: 요약 스킵하고 "본문 그대로(클린 + 클립)" 반환
-        if (effectiveLength(cleanedInput) <= Math.max(0, minLenThreshold)) {
+        if (!useModel || effectiveLength(cleanedInput) <= Math.max(0, minLenThreshold)) {
             summary = clip(postClean(sanitizeResponse(cleanedInput)), maxOutputLength);
             bypassed = true;
         } else {
@@ -61,6 +77,8 @@ public class PerDocSummarizer {
                         .blockOptional() // Mono<String> 대응
                         .orElse("")
                         .trim();
+            } catch (FlaskOverloadedException e) {
+                throw e;
             } catch (Exception e) {
                 summary = "";
             }
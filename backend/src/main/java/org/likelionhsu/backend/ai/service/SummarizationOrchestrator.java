@@ -1,85 +1,77 @@
 package org.likelionhsu.backend.ai.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.likelionhsu.backend.ai.dto.AiSearchDetailedResponse;
 import org.likelionhsu.backend.ai.dto.AiSearchResponse;
 import org.likelionhsu.backend.ai.dto.PerDocSummary;
 import org.likelionhsu.backend.ai.filter.SourceDomainPolicy;
 import org.likelionhsu.backend.ai.prompt.PromptTemplates;
+import org.likelionhsu.backend.common.exception.customexception.FlaskOverloadedException;
+import org.likelionhsu.backend.common.exception.customexception.NaverQuotaExceededException;
 import org.likelionhsu.backend.flask.FlaskSummarizeClient;
 import org.likelionhsu.backend.naversearch.NaverSearchItemDto;
+import org.likelionhsu.backend.naversearch.service.NaverQuotaPriority;
 import org.likelionhsu.backend.naversearch.service.NaverSearchService;
+import org.likelionhsu.backend.naversearch.service.NewsUrls;
+import org.likelionhsu.backend.naversearch.service.QueryNormalizer;
 import org.likelionhsu.backend.post.domain.Post;
-import org.likelionhsu.backend.post.repository.PostRepository;
-import org.likelionhsu.backend.post.repository.PostSpecification;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.likelionhsu.backend.post.domain.SourceType;
+import org.likelionhsu.backend.post.search.PostSearchFilter;
+import org.likelionhsu.backend.post.service.PostSearchService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * 단일 경로(Orchestrator 중심):
  *  검색 → 내부(게시글) + 외부(네이버 뉴스) 링크 수집 → 크롤링 → per-doc 요약 → reduce(TLDR)
+ *  - 외부는 수집된 뉴스(Post, NAVER_NEWS)를 먼저 쓰고, 부족분만 실시간 검색/크롤링
  *  - 외부는 네이버 'news'만 사용 (blog/cafe 미포함)
  *  - sys/usr 분리해 Flask 호출
  *  - sanitizeResponse + postClean(JDK8) 후처리 적용
+ *  - 모델 서버 과부하 시: 남은 per-doc 은 원문 클립, TLDR 은 per-doc 요약 앞문장 추출로 강등
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SummarizationOrchestrator {
 
-    private final PostRepository postRepository;
+    private final PostSearchService postSearchService;
     private final NaverSearchService naverSearchService;
     private final ContentFetcher contentFetcher;
     private final PerDocSummarizer perDocSummarizer;
     private final FlaskSummarizeClient flask;
     private final PromptTemplates prompts;
+    private final QueryNormalizer queryNormalizer;
+
+    /** 수집된 뉴스를 AI 검색 소스로 쓰는 최대 기간(일). 0 이면 항상 실시간 검색 */
+    @Value("${ai.search.local-news.max-age-days:14}")
+    private int localNewsMaxAgeDays;
 
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /* ========================= 리스트 요약 (/api/v1/ai-search) ========================= */
     public AiSearchResponse summarize(String query, int maxExternal) {
-        final String q = StringUtils.defaultString(query).trim();
+        return summarize(query, maxExternal, item -> {});
+    }
+
+    /** onItem: per-doc 요약이 하나 끝날 때마다 호출 (비동기 작업 API 의 부분 결과용) */
+    public AiSearchResponse summarize(String query, int maxExternal, Consumer<PerDocSummary> onItem) {
+        final String q = queryNormalizer.normalize(query).text();
         final int n = normalize(maxExternal);
 
         // 내부
         List<Post> internalPosts = findInternalPosts(q, 5);
 
-        // 외부(네이버 뉴스)
-        List<NaverSearchItemDto> raw = Optional.ofNullable(naverSearchService.search("news", q, n))
-                .orElseGet(Collections::emptyList);
-
-        // (originallink, link) 쌍
-        List<String[]> extPairs = raw.stream()
-                .map(it -> new String[]{ normalizeLink(it.getOriginallink()), normalizeLink(it.getLink()) })
-                .map(arr -> { // 둘 다 비면 버림
-                    if (isBlank(arr[0]) && isBlank(arr[1])) return null;
-                    return arr;
-                })
-                .filter(Objects::nonNull)
-                // 너무 공격적인 차단을 피하기 위해 우선 허용 도메인 먼저 keep
-                .filter(arr -> allowNewsDomain(arr[0]) || allowNewsDomain(arr[1]) || allowByPolicy(arr))
-                .distinct()
-                .limit(Math.max(5, n))
-                .collect(Collectors.toList());
-
-        // 디버그(임시): 어디서 비는지 확인
-        System.out.printf("[AI-SEARCH] q=%s raw=%d extPairs=%d%n", q, raw.size(), extPairs.size());
-
-        // 외부 본문 크롤링 (originallink → 실패 시 link, 반대로도 시도)
-        // 본문 크롤링 전/후 로깅 (임시)
-        int ok = 0, fail = 0;
-        List<Doc> externalDocs = new ArrayList<>();
-        for (String[] pair : extPairs) {
-            Doc doc = fetchBest(pair[0], pair[1]);
-            if (doc != null) { externalDocs.add(doc); ok++; }
-            else { fail++; System.out.printf("[AI-SEARCH] fetchFail: a=%s b=%s%n", pair[0], pair[1]); }
-        }
-        System.out.printf("[AI-SEARCH] externalDocs ok=%d fail=%d%n", ok, fail);
+        // 외부(네이버 뉴스): 수집된 기사 우선, 부족분만 실시간 검색/크롤링
+        List<Doc> externalDocs = collectExternalDocs(q, n);
 
         // 내부 → Doc
         List<Doc> internalDocs = mapInternal(internalPosts);
@@ -87,22 +79,16 @@ public class SummarizationOrchestrator {
         // 합치기
         List<Doc> docs = dedupeByUrl(merge(internalDocs, externalDocs));
 
-        // 디버그(필요 시 주석 해제)
-        // System.out.printf("[AI-SEARCH] q=%s internal=%d raw=%d extPairs=%d externalDocs=%d allDocs=%d%n",
-        //        q, internalPosts.size(), raw.size(), extPairs.size(), externalDocs.size(), docs.size());
+        log.debug("[AI-SEARCH] q={} internal={} externalDocs={} allDocs={}",
+                q, internalPosts.size(), externalDocs.size(), docs.size());
 
         if (docs.isEmpty()) {
             return new AiSearchResponse("관련 소스를 찾지 못했습니다.", List.of());
         }
 
         // per-doc 요약
-        List<PerDocSummary> items = new ArrayList<>();
-        for (Doc d : docs) {
-            PerDocSummary one = perDocSummarizer.summarizeOne(
-                    d.url, d.title, d.sourceType, d.publishedAt, d.body
-            );
-            if (one != null) items.add(one);
-        }
+        MapResult mapped = summarizeDocs(docs, onItem);
+        List<PerDocSummary> items = mapped.items();
 
         // reduce 입력: summary 없으면 content 폴백
         String joinedFacts = items.stream()
@@ -117,17 +103,7 @@ public class SummarizationOrchestrator {
                 .collect(Collectors.joining("\n"));
 
         // reduce
-        String sys = prompts.reduceSystem();
-        String usr = prompts.reduceUser(joinedFacts);
-        String tldr;
-        try {
-            tldr = Optional.ofNullable(flask.summarize(sys, usr).block())
-                    .orElse("")
-                    .trim();
-        } catch (Exception e) {
-            tldr = "";
-        }
-        tldr = postClean(sanitizeResponse(tldr));
+        String tldr = reduce(joinedFacts, items, mapped.overloaded());
 
         List<String> sources = docs.stream()
                 .map(d -> d.url)
@@ -144,34 +120,16 @@ public class SummarizationOrchestrator {
 
     /* ========================= 상세 요약 (/api/v1/ai-search/detail) ========================= */
     public AiSearchDetailedResponse summarizeDetailed(String query, int maxExternal) {
-        final String q = StringUtils.defaultString(query).trim();
+        return summarizeDetailed(query, maxExternal, item -> {});
+    }
+
+    /** onItem: per-doc 요약이 하나 끝날 때마다 호출 (비동기 작업 API 의 부분 결과용) */
+    public AiSearchDetailedResponse summarizeDetailed(String query, int maxExternal, Consumer<PerDocSummary> onItem) {
+        final String q = queryNormalizer.normalize(query).text();
         final int n = normalize(maxExternal);
 
         List<Post> internalPosts = findInternalPosts(q, 5);
-        List<NaverSearchItemDto> raw = Optional.ofNullable(naverSearchService.search("news", q, n))
-                .orElseGet(Collections::emptyList);
-
-        List<String[]> extPairs = raw.stream()
-                .map(it -> new String[]{ normalizeLink(it.getOriginallink()), normalizeLink(it.getLink()) })
-                .map(arr -> isBlank(arr[0]) && isBlank(arr[1]) ? null : arr)
-                .filter(Objects::nonNull)
-                .filter(this::allowByPolicyOrNews)
-                .distinct()
-                .limit(Math.max(5, n))
-                .collect(Collectors.toList());
-        // 디버그(임시): 어디서 비는지 확인
-        System.out.printf("[AI-SEARCH] q=%s raw=%d extPairs=%d%n", q, raw.size(), extPairs.size());
-
-
-        // 본문 크롤링 전/후 로깅 (임시)
-        int ok = 0, fail = 0;
-        List<Doc> externalDocs = new ArrayList<>();
-        for (String[] pair : extPairs) {
-            Doc doc = fetchBest(pair[0], pair[1]);
-            if (doc != null) { externalDocs.add(doc); ok++; }
-            else { fail++; System.out.printf("[AI-SEARCH] fetchFail: a=%s b=%s%n", pair[0], pair[1]); }
-        }
-        System.out.printf("[AI-SEARCH] externalDocs ok=%d fail=%d%n", ok, fail);
+        List<Doc> externalDocs = collectExternalDocs(q, n);
 
         List<Doc> internalDocs = mapInternal(internalPosts);
         List<Doc> docs = dedupeByUrl(merge(internalDocs, externalDocs));
@@ -180,13 +138,8 @@ public class SummarizationOrchestrator {
             return new AiSearchDetailedResponse("관련 소스를 찾지 못했습니다.", List.of(), List.of());
         }
 
-        List<PerDocSummary> items = new ArrayList<>();
-        for (Doc d : docs) {
-            PerDocSummary one = perDocSummarizer.summarizeOne(
-                    d.url, d.title, d.sourceType, d.publishedAt, d.body
-            );
-            if (one != null) items.add(one);
-        }
+        MapResult mapped = summarizeDocs(docs, onItem);
+        List<PerDocSummary> items = mapped.items();
 
         String joinedFacts = items.stream()
                 .map(it -> {
@@ -199,17 +152,7 @@ public class SummarizationOrchestrator {
                 .filter(s -> !s.isEmpty())
                 .collect(Collectors.joining("\n"));
 
-        String sys = prompts.reduceSystem();
-        String usr = prompts.reduceUser(joinedFacts);
-        String tldr;
-        try {
-            tldr = Optional.ofNullable(flask.summarize(sys, usr).block())
-                    .orElse("")
-                    .trim();
-        } catch (Exception e) {
-            tldr = "";
-        }
-        tldr = postClean(sanitizeResponse(tldr));
+        String tldr = reduce(joinedFacts, items, mapped.overloaded());
 
         List<String> sources = docs.stream()
                 .map(d -> d.url)
@@ -226,13 +169,12 @@ public class SummarizationOrchestrator {
 
     /* ========================= 프리뷰: Controller에서 호출 ========================= */
     public String buildPromptPreview(String query, int maxExternal) {
-        final String q = StringUtils.defaultString(query).trim();
+        final String q = queryNormalizer.normalize(query).text();
         final int n = normalize(maxExternal);
 
         List<Post> internalPosts = findInternalPosts(q, 3);
 
-        List<String> extLinks = Optional.ofNullable(naverSearchService.search("news", q, n))
-                .orElseGet(Collections::emptyList).stream()
+        List<String> extLinks = searchNews(q, n).stream()
                 .map(NaverSearchItemDto::getLink)
                 .filter(Objects::nonNull)
                 .map(String::trim)
@@ -268,13 +210,153 @@ public class SummarizationOrchestrator {
 
     /* ========================= helpers ========================= */
 
+    /**
+     * 외부(네이버 뉴스) 문서 수집: NaverNewsIngestionService 가 쌓아 둔 기사(최근 N일)를 먼저 쓰고,
+     * 모자랄 때만 실시간 검색 → 크롤링. 실시간 결과 중 이미 저장된 기사는 다시 크롤링하지 않는다.
+     */
+    private List<Doc> collectExternalDocs(String q, int n) {
+        List<Post> localNews = findLocalNews(q, n);
+        List<Doc> docs = new ArrayList<>(mapStoredNews(localNews));
+        if (docs.size() >= n) {
+            log.debug("[AI-SEARCH] q={} served from stored news ({})", q, docs.size());
+            return docs;
+        }
+
+        Set<String> stored = localNews.stream()
+                .map(Post::getExternalId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<NaverSearchItemDto> raw = searchNews(q, n);
+
+        // (originallink, link) 쌍
+        List<String[]> extPairs = raw.stream()
+                .filter(it -> !stored.contains(NewsUrls.canonical(it.getOriginallink(), it.getLink())))
+                .map(it -> new String[]{ normalizeLink(it.getOriginallink()), normalizeLink(it.getLink()) })
+                .map(arr -> isBlank(arr[0]) && isBlank(arr[1]) ? null : arr) // 둘 다 비면 버림
+                .filter(Objects::nonNull)
+                // 너무 공격적인 차단을 피하기 위해 우선 허용 도메인 먼저 keep
+                .filter(this::allowByPolicyOrNews)
+                .distinct()
+                .limit(Math.max(0, Math.max(5, n) - docs.size()))
+                .collect(Collectors.toList());
+
+        log.debug("[AI-SEARCH] q={} stored={} raw={} extPairs={}", q, docs.size(), raw.size(), extPairs.size());
+
+        // 외부 본문 크롤링 (originallink → 실패 시 link, 반대로도 시도)
+        int ok = 0, fail = 0;
+        for (String[] pair : extPairs) {
+            Doc doc = fetchBest(pair[0], pair[1]);
+            if (doc != null) { docs.add(doc); ok++; }
+            else { fail++; log.debug("[AI-SEARCH] fetchFail: a={} b={}", pair[0], pair[1]); }
+        }
+        log.debug("[AI-SEARCH] externalDocs ok={} fail={}", ok, fail);
+        return docs;
+    }
+
+    /** 외부(네이버 뉴스) 검색. 쿼터가 부족하면 내부 공지만으로 진행 */
+    private List<NaverSearchItemDto> searchNews(String q, int n) {
+        try {
+            return Optional.ofNullable(naverSearchService.search("news", q, n, NaverQuotaPriority.AI_SEARCH))
+                    .orElseGet(Collections::emptyList);
+        } catch (NaverQuotaExceededException e) {
+            log.warn("[AI-SEARCH] naver quota low, internal only: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
     private List<Post> findInternalPosts(String q, int limit) {
-        var page = postRepository.findAll(
-                PostSpecification.containsKeyword(q),
-                PageRequest.of(0, Math.max(1, limit),
-                        Sort.by(Sort.Order.desc("pubDate"), Sort.Order.desc("crawledAt")))
-        );
-        return page.getContent();
+        return postSearchService.search(q, PostSearchFilter.excluding(SourceType.NAVER_NEWS), limit);
+    }
+
+    /** 수집된 네이버 뉴스 중 질의에 맞는 최근 기사 */
+    private List<Post> findLocalNews(String q, int limit) {
+        if (localNewsMaxAgeDays <= 0) return List.of();
+        return postSearchService.search(q,
+                PostSearchFilter.only(SourceType.NAVER_NEWS, LocalDateTime.now().minusDays(localNewsMaxAgeDays)),
+                limit);
+    }
+
+    private List<Doc> mapStoredNews(List<Post> posts) {
+        List<Doc> list = new ArrayList<>();
+        for (Post p : posts) {
+            String body = safe(p.getContent());
+            if (body.length() < 80) continue;
+            list.add(new Doc(p.getLink(), safe(p.getTitle()), "EXTERNAL", publishedDate(p), body));
+        }
+        return list;
+    }
+
+    /** 게시일은 정규화된 published_at 우선, 아직 없으면 원문 문자열 */
+    private static String publishedDate(Post p) {
+        if (p.getPublishedAt() != null) return p.getPublishedAt().format(DATE_FMT);
+        return StringUtils.trimToNull(p.getPubDate());
+    }
+
+    private record MapResult(List<PerDocSummary> items, boolean overloaded) {}
+
+    /** per-doc 요약. 모델 서버 과부하가 한 번 감지되면 이후 문서는 모델 호출 없이 원문 클립으로 폴백 */
+    private MapResult summarizeDocs(List<Doc> docs, Consumer<PerDocSummary> onItem) {
+        List<PerDocSummary> items = new ArrayList<>();
+        boolean overloaded = false;
+        for (Doc d : docs) {
+            PerDocSummary one = null;
+            if (!overloaded) {
+                try {
+                    one = perDocSummarizer.summarizeOne(d.url, d.title, d.sourceType, d.publishedAt, d.body);
+                } catch (FlaskOverloadedException e) {
+                    log.warn("[AI-SEARCH] model overloaded, per-doc fallback: {}", e.getMessage());
+                    overloaded = true;
+                }
+            }
+            if (overloaded) {
+                one = perDocSummarizer.passthrough(d.url, d.title, d.sourceType, d.publishedAt, d.body);
+            }
+            if (one != null) {
+                items.add(one);
+                onItem.accept(one);
+            }
+        }
+        return new MapResult(items, overloaded);
+    }
+
+    /** reduce(TLDR). 과부하면 모델을 건너뛰고 per-doc 요약 앞문장으로 추출식 TLDR 구성 */
+    private String reduce(String joinedFacts, List<PerDocSummary> items, boolean overloaded) {
+        if (!overloaded) {
+            String sys = prompts.reduceSystem();
+            String usr = prompts.reduceUser(joinedFacts);
+            String tldr;
+            try {
+                tldr = Optional.ofNullable(flask.summarize(sys, usr).block())
+                        .orElse("")
+                        .trim();
+            } catch (FlaskOverloadedException e) {
+                log.warn("[AI-SEARCH] model overloaded, extractive tldr: {}", e.getMessage());
+                return extractiveTldr(items);
+            } catch (Exception e) {
+                tldr = "";
+            }
+            return postClean(sanitizeResponse(tldr));
+        }
+        return extractiveTldr(items);
+    }
+
+    private String extractiveTldr(List<PerDocSummary> items) {
+        return items.stream()
+                .map(PerDocSummary::summary)
+                .filter(StringUtils::isNotBlank)
+                .map(s -> firstSentence(safe(s)))
+                .distinct()
+                .limit(3)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String firstSentence(String s) {
+        int cut = -1;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '.' || c == '!' || c == '?' || c == '…') { cut = i; break; }
+        }
+        return abbrev(cut > 0 ? s.substring(0, cut + 1) : s, 160);
     }
 
     private static class Doc {
@@ -391,15 +473,9 @@ public class SummarizationOrchestrator {
             }
             if (StringUtils.isBlank(body)) body = title;
 
-            String publishedAt = null;
-            try {
-                String s = safe(p.getPubDate());
-                publishedAt = s.isEmpty() ? null : s;
-            } catch (Exception ignore) {}
-
             list.add(new Doc(
                     Optional.ofNullable(p.getLink()).orElse("internal://post/" + p.getId()),
-                    title, "INTERNAL", publishedAt, body
+                    title, "INTERNAL", publishedDate(p), body
             ));
         }
         return list;
@@ -2,10 +2,13 @@ package org.likelionhsu.backend.bookmark.repository;
 
 import org.likelionhsu.backend.bookmark.domain.Bookmark;
 import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.repository.InteractedPostRow;
 import org.likelionhsu.backend.user.Enitity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -18,5 +21,12 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     long countByPost(Post post);
 
     Page<Bookmark> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    /** 마이페이지 목록: 게시글 본문 없이 목록 컬럼만 */
+    @Query(value = "select new org.likelionhsu.backend.post.repository.InteractedPostRow("
+            + "p.id, p.title, p.region, p.category, p.crawledAt, p.views, b.createdAt) "
+            + "from Bookmark b join b.post p where b.user = :user order by b.createdAt desc",
+            countQuery = "select count(b) from Bookmark b where b.user = :user")
+    Page<InteractedPostRow> findPostRowsByUser(@Param("user") User user, Pageable pageable);
 }
 
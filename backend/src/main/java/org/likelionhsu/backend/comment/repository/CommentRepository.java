@@ -2,11 +2,16 @@ package org.likelionhsu.backend.comment.repository;
 
 import org.likelionhsu.backend.comment.domain.Comment;
 import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.repository.PostCount;
+import org.likelionhsu.backend.user.Dto.MyPageCommentDto;
 import org.likelionhsu.backend.user.Enitity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -16,5 +21,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByUser(User user);
 
     Page<Comment> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    /** 마이페이지 댓글 목록: 게시글은 id/제목만 */
+    @Query(value = "select new org.likelionhsu.backend.user.Dto.MyPageCommentDto("
+            + "c.id, p.id, p.title, c.content, c.createdAt, c.updatedAt) "
+            + "from Comment c join c.post p where c.user = :user order by c.createdAt desc",
+            countQuery = "select count(c) from Comment c where c.user = :user")
+    Page<MyPageCommentDto> findMyPageRowsByUser(@Param("user") User user, Pageable pageable);
+
+    /** 여러 게시글의 댓글 수를 한 번에 (댓글이 없는 게시글은 결과에 없음) */
+    @Query("select c.post.id as postId, count(c) as count from Comment c where c.post.id in :postIds group by c.post.id")
+    List<PostCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
 }
 
@@ -0,0 +1,19 @@
+package org.likelionhsu.backend.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * stampede 보호 캐시의 저장 형식
+ *  - expiresAt : 논리 만료 시각(epoch ms). 실제 Redis TTL 은 여기에 stale 유지 시간을 더한 값
+ *  - deltaMs   : 마지막 재계산에 걸린 시간 (XFetch 조기 재계산 확률 계산용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope {
+    private Object value;
+    private long expiresAt;
+    private long deltaMs;
+}
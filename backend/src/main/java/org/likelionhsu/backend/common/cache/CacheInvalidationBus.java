@@ -0,0 +1,59 @@
+package org.likelionhsu.backend.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * 근접 캐시(L1) 무효화 메시지 전파 (Redis pub/sub)
+ *  - 자기 노드가 보낸 메시지는 무시 (로컬 L1 은 이미 갱신됨)
+ *  - 발행 실패/Redis 장애 중에는 로그만 남기고 진행 (L1 TTL 이 짧아 결국 수렴)
+ */
+@Slf4j
+public class CacheInvalidationBus {
+
+    static final String CHANNEL = "cache:invalidate";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final RedisCircuitBreaker breaker;
+
+    CacheInvalidationBus(StringRedisTemplate redis, ObjectMapper objectMapper, RedisCircuitBreaker breaker) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.breaker = breaker;
+    }
+
+    /** cache 의 key(null 이면 전체)가 바뀌었음을 다른 노드에 알림 */
+    void publish(String cache, String key) {
+        try {
+            String json = objectMapper.writeValueAsString(new Message(nodeId, cache, key));
+            if (!breaker.run(() -> redis.convertAndSend(CHANNEL, json))) {
+                log.debug("[near-cache] invalidation not published (redis degraded) cache={} key={}", cache, key);
+            }
+        } catch (Exception e) {
+            log.warn("[near-cache] invalidation publish failed cache={} key={}: {}", cache, key, e.toString());
+        }
+    }
+
+    void subscribe(RedisMessageListenerContainer container, BiConsumer<String, String> onInvalidate) {
+        container.addMessageListener((message, pattern) -> {
+            try {
+                Message m = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Message.class);
+                if (nodeId.equals(m.node())) return;
+                onInvalidate.accept(m.cache(), m.key());
+            } catch (Exception e) {
+                log.debug("[near-cache] bad invalidation message: {}", e.toString());
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    record Message(String node, String cache, String key) {}
+}
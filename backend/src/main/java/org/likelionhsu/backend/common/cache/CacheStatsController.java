@@ -0,0 +1,59 @@
+package org.likelionhsu.backend.common.cache;
+
+import org.likelionhsu.backend.common.cache.codec.CacheCodecStats;
+import org.likelionhsu.backend.common.cache.codec.CacheCodecs;
+import org.likelionhsu.backend.post.cache.PostResponseCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/** 캐시 계층별 히트 / 코덱 통계 조회 */
+@RestController
+@RequestMapping("/api/v1/cache")
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+    private final CacheCodecs cacheCodecs;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final PostResponseCache postResponseCache;
+
+    public CacheStatsController(@Qualifier("redisCacheManager") CacheManager cacheManager,
+                                CacheCodecs cacheCodecs,
+                                RedisCircuitBreaker redisCircuitBreaker,
+                                PostResponseCache postResponseCache) {
+        this.cacheManager = cacheManager;
+        this.cacheCodecs = cacheCodecs;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.postResponseCache = postResponseCache;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheTierStats>> stats() {
+        // local 프로필(Caffeine 단독)에서는 계층 통계가 없다
+        if (!(cacheManager instanceof TwoTierCacheManager twoTier)) return ResponseEntity.ok(List.of());
+        return ResponseEntity.ok(twoTier.stats());
+    }
+
+    /** 캐시별 값 코덱 통계 (엔트리당 평균 바이트, 인코딩/디코딩 시간) */
+    @GetMapping("/codec-stats")
+    public ResponseEntity<List<CacheCodecStats>> codecStats() {
+        return ResponseEntity.ok(cacheCodecs.stats());
+    }
+
+    /** 게시글 목록/피드/상세 응답 캐시 적중/무효화 현황 */
+    @GetMapping("/posts")
+    public ResponseEntity<PostResponseCache.PostCacheStats> posts() {
+        return ResponseEntity.ok(postResponseCache.snapshot());
+    }
+
+    /** 캐시용 Redis 서킷 브레이커 상태 (OPEN 이면 로컬 fallback 으로 동작 중) */
+    @GetMapping("/redis")
+    public ResponseEntity<RedisCircuitBreaker.BreakerStats> redis() {
+        return ResponseEntity.ok(redisCircuitBreaker.snapshot());
+    }
+}
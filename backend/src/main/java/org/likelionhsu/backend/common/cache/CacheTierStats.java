@@ -0,0 +1,22 @@
+package org.likelionhsu.backend.common.cache;
+
+/** 캐시별 계층 히트 통계 (l1 = 노드 로컬, l2 = Redis) */
+public record CacheTierStats(
+        String cache,
+        long l1Size,
+        long l1Hits,
+        long l2Hits,
+        long misses,
+        long puts,
+        long remoteInvalidations
+) {
+    public double l1HitRatio() {
+        long total = l1Hits + l2Hits + misses;
+        return total == 0 ? 0.0 : (double) l1Hits / total;
+    }
+
+    public double hitRatio() {
+        long total = l1Hits + l2Hits + misses;
+        return total == 0 ? 0.0 : (double) (l1Hits + l2Hits) / total;
+    }
+}
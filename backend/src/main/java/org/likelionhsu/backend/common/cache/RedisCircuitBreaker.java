@@ -0,0 +1,124 @@
+package org.likelionhsu.backend.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 캐시용 Redis 호출 서킷 브레이커
+ *  - CLOSED    : 정상. 연속 failureThreshold 회 실패(DataAccessException 또는 slowCallMs 초과)면 OPEN
+ *  - OPEN      : openMs 동안 Redis 를 호출하지 않고 바로 fallback
+ *  - HALF_OPEN : openMs 경과 후 한 건만 시험 호출, 성공하면 CLOSED(복구 리스너 실행), 실패하면 다시 OPEN
+ * 캐시 계층이 "캐시가 없는 것보다 느려지지" 않도록 하는 것이 목적이다.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMs;
+    private final long slowCallMs;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    public RedisCircuitBreaker(int failureThreshold, long openMs, long slowCallMs) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMs = Math.max(100, openMs);
+        this.slowCallMs = Math.max(1, slowCallMs);
+    }
+
+    /** Redis 호출을 보호해서 실행, 차단 중이거나 실패하면 fallback 결과 */
+    public <T> T call(Supplier<T> redisCall, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            shortCircuited.increment();
+            return fallback.get();
+        }
+        long start = System.currentTimeMillis();
+        boolean recorded = false;
+        try {
+            T result = redisCall.get();
+            record(System.currentTimeMillis() - start <= slowCallMs);
+            recorded = true;
+            return result;
+        } catch (DataAccessException e) {
+            // 연결/타임아웃 등 Redis 장애만 실패로 센다 (직렬화 오류 등은 그대로 전파)
+            record(false);
+            recorded = true;
+            log.debug("[cache-breaker] redis call failed: {}", e.toString());
+            return fallback.get();
+        } finally {
+            // 그 밖의 예외로 끝난 HALF_OPEN 시험 호출은 판정 없이 OPEN 으로 되돌려 openMs 뒤 다시 시험한다
+            // (그대로 두면 HALF_OPEN 에 멈춰 tryAcquire 가 계속 false)
+            if (!recorded) abandonTrial();
+        }
+    }
+
+    /** 결과가 필요 없는 호출용. Redis 에 반영됐으면 true */
+    public boolean run(Runnable redisCall) {
+        return call(() -> {
+            redisCall.run();
+            return true;
+        }, () -> false);
+    }
+
+    /** 지금 Redis 를 호출해도 되는지 (HALF_OPEN 시험 호출권 획득 포함) */
+    public boolean tryAcquire() {
+        State s = state.get();
+        if (s == State.CLOSED) return true;
+        if (s == State.OPEN && System.currentTimeMillis() - openedAt >= openMs) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    public boolean isClosed() {
+        return state.get() == State.CLOSED;
+    }
+
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    public BreakerStats snapshot() {
+        return new BreakerStats(state.get(), consecutiveFailures.get(), failures.sum(), shortCircuited.sum());
+    }
+
+    private void abandonTrial() {
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+            openedAt = System.currentTimeMillis();
+            log.warn("[cache-breaker] trial call ended with non-redis error, reopening circuit for {}ms", openMs);
+        }
+    }
+
+    private void record(boolean ok) {
+        if (ok) {
+            consecutiveFailures.set(0);
+            if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                log.info("[cache-breaker] redis recovered, closing circuit");
+                recoveryListeners.forEach(Runnable::run);
+            }
+            return;
+        }
+        failures.increment();
+        int n = consecutiveFailures.incrementAndGet();
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)
+                || (n >= failureThreshold && state.compareAndSet(State.CLOSED, State.OPEN))) {
+            openedAt = System.currentTimeMillis();
+            log.warn("[cache-breaker] redis degraded, opening circuit for {}ms (consecutiveFailures={})", openMs, n);
+        }
+    }
+
+    public record BreakerStats(State state, int consecutiveFailures, long failures, long shortCircuited) {}
+}
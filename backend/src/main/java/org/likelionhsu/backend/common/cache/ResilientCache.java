@@ -0,0 +1,131 @@
+package org.likelionhsu.backend.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 캐시 + 로컬 Caffeine fallback
+ *  - Redis 호출은 RedisCircuitBreaker 를 통과, 실패/차단 시 로컬 캐시로 읽고 쓴다
+ *  - 장애 중 로컬에 쓴 값과 반영 못 한 삭제는 기억해 두었다가, 복구되면 Redis 에 재반영(reconcile)
+ *    · 쓰기는 putIfAbsent 로 올려서 그사이 다른 노드가 쓴 새 값을 덮지 않는다
+ */
+@Slf4j
+public class ResilientCache implements Cache {
+
+    private final Cache redis;
+    private final RedisCircuitBreaker breaker;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingClear;
+
+    ResilientCache(Cache redis, RedisCircuitBreaker breaker, long localMaxSize, Duration localTtl) {
+        this.redis = redis;
+        this.breaker = breaker;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return redis.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redis.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return breaker.call(() -> redis.get(key), () -> localGet(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper w = get(key);
+        Object v = (w == null) ? null : w.get();
+        if (v != null && type != null && !type.isInstance(v)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + v);
+        }
+        return (T) v;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper w = get(key);
+        if (w != null) return (T) w.get();
+        try {
+            T value = valueLoader.call();
+            if (value != null) put(key, value);
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (breaker.run(() -> redis.put(key, value))) {
+            local.invalidate(key);
+            return;
+        }
+        local.put(key, value);
+        pendingEvictions.remove(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        if (!breaker.run(() -> redis.evict(key))) pendingEvictions.add(key);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        pendingEvictions.clear();
+        if (!breaker.run(redis::clear)) pendingClear = true;
+    }
+
+    /** Redis 복구 후: 장애 중의 삭제/쓰기를 Redis 에 반영하고 로컬 fallback 을 비운다 */
+    void reconcile() {
+        int evicted = 0, warmed = 0;
+        try {
+            if (pendingClear) {
+                redis.clear();
+                pendingClear = false;
+            }
+            for (Object key : Set.copyOf(pendingEvictions)) {
+                redis.evict(key);
+                pendingEvictions.remove(key);
+                evicted++;
+            }
+            for (Map.Entry<Object, Object> e : Map.copyOf(local.asMap()).entrySet()) {
+                redis.putIfAbsent(e.getKey(), e.getValue());
+                local.invalidate(e.getKey());
+                warmed++;
+            }
+            log.info("[cache-breaker] {} reconciled (evicted={}, rewarmed={})", getName(), evicted, warmed);
+        } catch (RuntimeException e) {
+            // 다시 실패하면 남은 항목은 다음 복구 때 반영
+            log.warn("[cache-breaker] {} reconcile interrupted: {}", getName(), e.toString());
+        }
+    }
+
+    private ValueWrapper localGet(Object key) {
+        if (pendingEvictions.contains(key)) return null;
+        Object v = local.getIfPresent(key);
+        return v == null ? null : new SimpleValueWrapper(v);
+    }
+}
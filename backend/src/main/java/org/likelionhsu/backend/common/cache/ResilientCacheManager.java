@@ -0,0 +1,44 @@
+package org.likelionhsu.backend.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 모든 Redis 캐시를 ResilientCache 로 감싸고, 브레이커 복구 시 비동기로 reconcile 한다 */
+public class ResilientCacheManager implements CacheManager {
+
+    private final CacheManager redis;
+    private final RedisCircuitBreaker breaker;
+    private final long localMaxSize;
+    private final Duration localTtl;
+
+    private final Map<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(CacheManager redis, RedisCircuitBreaker breaker,
+                                 long localMaxSize, Duration localTtl) {
+        this.redis = redis;
+        this.breaker = breaker;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        breaker.onRecovery(() -> CompletableFuture.runAsync(
+                () -> caches.values().forEach(ResilientCache::reconcile)));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache c = redis.getCache(n);
+            return c == null ? null : new ResilientCache(c, breaker, localMaxSize, localTtl);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redis.getCacheNames();
+    }
+}
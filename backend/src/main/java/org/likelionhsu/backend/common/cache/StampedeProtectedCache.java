@@ -0,0 +1,215 @@
+package org.likelionhsu.backend.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 캐시 stampede 보호 데코레이터
+ *  - 값은 CacheEnvelope(값 + 논리 만료 + 재계산 시간)로 저장, Redis 에는 논리 TTL 보다 staleFor 만큼 더 남긴다
+ *  - 논리 만료 전: XFetch 확률(now + δ·β·(-ln r) ≥ expiresAt)에 걸리면 재계산 락을 잡은 한 요청만 miss 로 처리
+ *  - 논리 만료 후: 락을 잡은 한 요청만 재계산, 나머지는 이전 값을 그대로 받는다
+ *  - 이전 값이 없는(cold) miss: 락을 못 잡으면 coldWait 동안 다른 노드의 결과를 기다린 뒤 직접 계산
+ * 락은 get(key, Callable) (@Cacheable(sync = true)) 안에서만 잡고, 계산 결과가 null 이든 예외든 finally 에서 푼다.
+ * get(key) 는 락 없는 조회다 (논리 만료된 값은 miss). null 결과는 저장하지 않으므로 sync 경로에서 unless 대신
+ * 캐시하지 않을 결과를 null 로 돌려주면 된다.
+ */
+@Slf4j
+public class StampedeProtectedCache implements Cache {
+
+    private static final String LOCK_PREFIX = "lock:cache:";
+    private static final long COLD_POLL_MS = 200;
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final Cache delegate;
+    private final StringRedisTemplate redis;
+    private final RedisCircuitBreaker breaker;
+    private final Duration ttl;
+    private final Duration lockTtl;
+    private final long coldWaitMs;
+    private final double beta;
+    private final long defaultDeltaMs;
+
+    /** 이 노드에서 락을 잡고 재계산 중인 키 → (토큰, 시작 시각, 계산 스레드) */
+    private final Map<String, Recompute> recomputing = new ConcurrentHashMap<>();
+
+    StampedeProtectedCache(Cache delegate, StringRedisTemplate redis, RedisCircuitBreaker breaker,
+                           Duration ttl, Duration lockTtl, long coldWaitMs, double beta, long defaultDeltaMs) {
+        this.delegate = delegate;
+        this.redis = redis;
+        this.breaker = breaker;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+        this.coldWaitMs = coldWaitMs;
+        this.beta = beta;
+        this.defaultDeltaMs = defaultDeltaMs;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    /** 락 없는 조회. 논리 만료된 값은 miss 로 본다 (재계산은 get(key, Callable) 경로에서) */
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper raw = delegate.get(key);
+        if (raw == null || raw.get() == null) return null;
+        if (!(raw.get() instanceof CacheEnvelope env)) return raw; // 이전 형식 값은 그대로 사용
+        return System.currentTimeMillis() >= env.getExpiresAt() ? null : new SimpleValueWrapper(env.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper w = get(key);
+        Object v = (w == null) ? null : w.get();
+        if (v != null && type != null && !type.isInstance(v)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + v);
+        }
+        return (T) v;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String k = String.valueOf(key);
+        ValueWrapper raw = delegate.get(key);
+
+        if (raw == null || raw.get() == null) {
+            if (tryLock(k)) return load(key, k, valueLoader, true);            // 내가 계산
+            if (holdsLock(k) || !breaker.isClosed()) {
+                return load(key, k, valueLoader, false);                        // 재진입 / Redis 장애 중엔 기다리지 않음
+            }
+            ValueWrapper filled = awaitOther(key, k);                           // 다른 요청이 계산 중 → 잠깐 기다림
+            if (filled != null) return (T) filled.get();
+            log.debug("[stampede] cold wait expired {}:{}", getName(), k);
+            return load(key, k, valueLoader, false);
+        }
+        if (!(raw.get() instanceof CacheEnvelope env)) return (T) raw.get(); // 이전 형식 값은 그대로 사용
+
+        long now = System.currentTimeMillis();
+        boolean expired = now >= env.getExpiresAt();
+        if ((expired || shouldRecomputeEarly(env, now)) && tryLock(k)) {
+            log.debug("[stampede] {} recompute {}:{}", expired ? "expired" : "early", getName(), k);
+            return load(key, k, valueLoader, true);
+        }
+        return (T) env.getValue(); // 다른 요청이 재계산 중이면 이전 값
+    }
+
+    /** 계산 후 null 이 아니면 저장. 락은 결과(null/예외 포함)와 관계없이 반납 */
+    private <T> T load(Object key, String k, Callable<T> valueLoader, boolean locked) {
+        try {
+            T value = valueLoader.call();
+            if (value != null) put(key, value);
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            if (locked) release(k);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Recompute r = recomputing.get(String.valueOf(key));
+        long delta = (r != null) ? Math.max(1, now - r.startedAt()) : defaultDeltaMs;
+        delegate.put(key, new CacheEnvelope(value, now + ttl.toMillis(), delta));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /* ------------------------- internals ------------------------- */
+
+    /** XFetch: 재계산이 오래 걸리고 만료가 가까울수록 일찍 재계산할 확률이 커진다 */
+    private boolean shouldRecomputeEarly(CacheEnvelope env, long now) {
+        double r = ThreadLocalRandom.current().nextDouble();
+        if (r <= 0) return false;
+        double gap = env.getDeltaMs() * beta * -Math.log(r);
+        return now + gap >= env.getExpiresAt();
+    }
+
+    private boolean tryLock(String k) {
+        Recompute mine = recomputing.get(k);
+        if (mine != null && System.currentTimeMillis() - mine.startedAt() < lockTtl.toMillis()) {
+            return false; // 이 노드에서 이미 재계산 중
+        }
+        String token = UUID.randomUUID().toString();
+        // Redis 장애(브레이커 차단 포함) 시에는 락 없이 계산 (가용성 우선)
+        Boolean ok = breaker.call(() -> redis.opsForValue().setIfAbsent(lockKey(k), token, lockTtl), () -> null);
+        if (Boolean.FALSE.equals(ok)) return false;
+        recomputing.put(k, new Recompute(token, System.currentTimeMillis(), Thread.currentThread()));
+        return true;
+    }
+
+    /** 현재 스레드가 이미 이 키를 계산 중 (loader 안에서 같은 키를 다시 조회한 경우) */
+    private boolean holdsLock(String k) {
+        Recompute mine = recomputing.get(k);
+        return mine != null && mine.owner() == Thread.currentThread();
+    }
+
+    /** 현재 스레드가 잡은 락만 반납 (lockTtl 이 지나 다른 요청이 새로 잡은 락은 건드리지 않음) */
+    private void release(String k) {
+        Recompute r = recomputing.get(k);
+        if (r == null || r.owner() != Thread.currentThread() || !recomputing.remove(k, r)) return;
+        if (!breaker.run(() -> redis.execute(RELEASE, List.of(lockKey(k)), r.token()))) {
+            log.debug("[stampede] unlock skipped {}:{} (lock expires by ttl)", getName(), k);
+        }
+    }
+
+    /** 값이 채워지거나, 락이 값 없이 풀리거나(캐시하지 않는 결과/실패), coldWait 이 지나면 끝 */
+    private ValueWrapper awaitOther(Object key, String k) {
+        long deadline = System.currentTimeMillis() + coldWaitMs;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(COLD_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper raw = delegate.get(key);
+            if (raw != null && raw.get() != null) {
+                return raw.get() instanceof CacheEnvelope env ? new SimpleValueWrapper(env.getValue()) : raw;
+            }
+            Boolean locked = breaker.call(() -> redis.hasKey(lockKey(k)), () -> Boolean.FALSE);
+            if (!Boolean.TRUE.equals(locked)) return null;
+        }
+        return null;
+    }
+
+    private String lockKey(String k) {
+        return LOCK_PREFIX + getName() + ":" + k;
+    }
+
+    private record Recompute(String token, long startedAt, Thread owner) {}
+}
@@ -0,0 +1,58 @@
+package org.likelionhsu.backend.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * logicalTtls 에 있는 캐시만 StampedeProtectedCache 로 감싸는 CacheManager
+ * (해당 캐시의 Redis entryTtl 은 논리 TTL + stale 유지 시간으로 설정되어 있어야 한다)
+ */
+public class StampedeProtectedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final StringRedisTemplate redis;
+    private final RedisCircuitBreaker breaker;
+    private final Map<String, Duration> logicalTtls;
+    private final Duration lockTtl;
+    private final long coldWaitMs;
+    private final double beta;
+    private final long defaultDeltaMs;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public StampedeProtectedCacheManager(CacheManager delegate, StringRedisTemplate redis,
+                                         RedisCircuitBreaker breaker,
+                                         Map<String, Duration> logicalTtls, Duration lockTtl,
+                                         long coldWaitMs, double beta, long defaultDeltaMs) {
+        this.delegate = delegate;
+        this.redis = redis;
+        this.breaker = breaker;
+        this.logicalTtls = Map.copyOf(logicalTtls);
+        this.lockTtl = lockTtl;
+        this.coldWaitMs = coldWaitMs;
+        this.beta = beta;
+        this.defaultDeltaMs = defaultDeltaMs;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Duration ttl = logicalTtls.get(name);
+        if (ttl == null) return delegate.getCache(name);
+        return caches.computeIfAbsent(name, n -> {
+            Cache c = delegate.getCache(n);
+            return c == null ? null
+                    : new StampedeProtectedCache(c, redis, breaker, ttl, lockTtl, coldWaitMs, beta, defaultDeltaMs);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
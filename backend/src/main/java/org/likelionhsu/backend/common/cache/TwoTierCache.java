@@ -0,0 +1,148 @@
+package org.likelionhsu.backend.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * L1(Caffeine, 노드 로컬) + L2(Redis, 공유) 캐시
+ *  - 조회: L1 → L2 → (miss) 순서, L2 히트는 L1 에 채워 넣는다
+ *  - 쓰기/삭제: L2 반영 후 L1 갱신, 다른 노드의 L1 은 pub/sub 무효화 메시지로 비운다
+ *  - 키는 RedisCache 와 같이 문자열로 통일해서 노드 간 무효화 키가 일치하도록 한다
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Cache l2;
+    private final CacheInvalidationBus bus;
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+
+    TwoTierCache(String name,
+                 com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                 Cache l2,
+                 CacheInvalidationBus bus) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String k = keyOf(key);
+        Object local = l1.getIfPresent(k);
+        if (local != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(local);
+        }
+        ValueWrapper remote = l2.get(key);
+        if (remote != null && remote.get() != null) {
+            l2Hits.increment();
+            l1.put(k, remote.get());
+            return remote;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper w = get(key);
+        Object v = (w == null) ? null : w.get();
+        if (v != null && type != null && !type.isInstance(v)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + v);
+        }
+        return (T) v;
+    }
+
+    /** L1 miss 면 L2 의 get(key, Callable) 에 맡긴다 (L2 의 stampede 락이 sync 경로에서 동작하도록) */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String k = keyOf(key);
+        Object local = l1.getIfPresent(k);
+        if (local != null) {
+            l1Hits.increment();
+            return (T) local;
+        }
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        T value = l2.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (value == null || loaded.get()) misses.increment();
+        else l2Hits.increment();
+        if (value != null) {
+            l1.put(k, value);
+            if (loaded.get()) {
+                puts.increment();
+                bus.publish(name, k);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        l2.put(key, value);
+        l1.put(keyOf(key), value);
+        puts.increment();
+        bus.publish(name, keyOf(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(keyOf(key));
+        bus.publish(name, keyOf(key));
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        bus.publish(name, null);
+    }
+
+    /** 다른 노드에서 변경된 항목을 로컬 L1 에서만 제거 (key == null 이면 전체) */
+    void invalidateLocal(String key) {
+        remoteInvalidations.increment();
+        if (key == null) l1.invalidateAll();
+        else l1.invalidate(key);
+    }
+
+    CacheTierStats stats() {
+        return new CacheTierStats(name,
+                l1.estimatedSize(),
+                l1Hits.sum(), l2Hits.sum(), misses.sum(),
+                puts.sum(), remoteInvalidations.sum());
+    }
+
+    private static String keyOf(Object key) {
+        return String.valueOf(key);
+    }
+}
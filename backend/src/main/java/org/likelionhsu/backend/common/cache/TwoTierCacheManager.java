@@ -0,0 +1,78 @@
+package org.likelionhsu.backend.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 선택한 캐시(nearCacheNames)에 한해 Caffeine L1 을 Redis L2 앞에 두는 CacheManager
+ *  - 그 외 캐시는 L2(CacheManager) 를 그대로 돌려준다
+ *  - 노드 간 L1 일관성은 CacheInvalidationBus(pub/sub) 로 맞춘다
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager l2;
+    private final Set<String> nearCacheNames;
+    private final Duration l1Ttl;
+    private final long l1MaxSize;
+    private final CacheInvalidationBus bus;
+
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager l2,
+                               Set<String> nearCacheNames,
+                               Duration l1Ttl,
+                               long l1MaxSize,
+                               StringRedisTemplate redis,
+                               ObjectMapper objectMapper,
+                               RedisCircuitBreaker breaker,
+                               RedisMessageListenerContainer listenerContainer) {
+        this.l2 = l2;
+        this.nearCacheNames = Set.copyOf(nearCacheNames);
+        this.l1Ttl = l1Ttl;
+        this.l1MaxSize = l1MaxSize;
+        this.bus = new CacheInvalidationBus(redis, objectMapper, breaker);
+        bus.subscribe(listenerContainer, this::onRemoteInvalidate);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!nearCacheNames.contains(name)) return l2.getCache(name);
+        return caches.computeIfAbsent(name, n -> {
+            Cache remote = l2.getCache(n);
+            if (remote == null) return null;
+            return new TwoTierCache(n, Caffeine.newBuilder()
+                    .expireAfterWrite(l1Ttl)
+                    .maximumSize(l1MaxSize)
+                    .build(), remote, bus);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return l2.getCacheNames();
+    }
+
+    public List<CacheTierStats> stats() {
+        return caches.values().stream()
+                .map(TwoTierCache::stats)
+                .sorted(Comparator.comparing(CacheTierStats::cache))
+                .toList();
+    }
+
+    private void onRemoteInvalidate(String cache, String key) {
+        TwoTierCache c = caches.get(cache);
+        if (c != null) c.invalidateLocal(key);
+    }
+}
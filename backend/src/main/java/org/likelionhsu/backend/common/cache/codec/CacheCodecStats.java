@@ -0,0 +1,14 @@
+package org.likelionhsu.backend.common.cache.codec;
+
+/** 캐시별 값 코덱 통계 (바이트는 엔트리당 평균, 시간은 µs 평균) */
+public record CacheCodecStats(
+        String cache,
+        String codec,
+        long encoded,
+        long avgEncodedBytes,
+        long compressed,
+        long avgEncodeMicros,
+        long decoded,
+        long avgDecodedBytes,
+        long avgDecodeMicros
+) {}
@@ -0,0 +1,32 @@
+package org.likelionhsu.backend.common.cache.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 설정된 코덱으로 캐시별 값 직렬화기를 만들고 통계를 모은다 */
+public class CacheCodecs {
+
+    private final CacheValueCodec codec;
+    private final Map<String, MeasuredCodecSerializer> serializers = new ConcurrentHashMap<>();
+
+    public CacheCodecs(String codecName, int compressThresholdBytes) {
+        this.codec = "json".equalsIgnoreCase(codecName)
+                ? new JsonCacheValueCodec()
+                : new CompactCacheValueCodec(Math.max(0, compressThresholdBytes));
+    }
+
+    public RedisSerializer<Object> serializerFor(String cache) {
+        return serializers.computeIfAbsent(cache, c -> new MeasuredCodecSerializer(c, codec));
+    }
+
+    public List<CacheCodecStats> stats() {
+        return serializers.values().stream()
+                .map(MeasuredCodecSerializer::stats)
+                .sorted(Comparator.comparing(CacheCodecStats::cache))
+                .toList();
+    }
+}
@@ -0,0 +1,21 @@
+package org.likelionhsu.backend.common.cache.codec;
+
+/**
+ * Redis 캐시 값 인코딩 방식 (cache.codec 으로 선택)
+ *  - json    : 기존 GenericJackson2JsonRedisSerializer 형식
+ *  - compact : 버전 헤더 + 타입 태그 + Smile 바이너리, 임계값 이상은 압축
+ * 어떤 코덱을 쓰든 decode 는 이전 형식 값도 읽을 수 있어야 한다(배포 중 혼재).
+ */
+public interface CacheValueCodec {
+
+    String name();
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes);
+
+    /** encode 결과가 압축되었는지 (통계용) */
+    default boolean isCompressed(byte[] encoded) {
+        return false;
+    }
+}
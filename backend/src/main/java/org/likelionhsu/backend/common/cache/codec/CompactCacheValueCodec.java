@@ -0,0 +1,170 @@
+package org.likelionhsu.backend.common.cache.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.likelionhsu.backend.common.cache.CacheEnvelope;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 바이너리 캐시 코덱
+ *
+ * <pre>
+ * [0xC5][version][flags]
+ * (flags & ENVELOPE) [expiresAt:long][deltaMs:long]
+ * [typeTag:UTF]                      루트 값 클래스 (한 번만 기록)
+ * [payload]                          Smile, (flags & DEFLATE) 이면 deflate 압축
+ * </pre>
+ *
+ * - 루트 타입을 헤더에 한 번만 적으므로 필드마다 클래스명이 붙지 않는다
+ * - 루트가 컬렉션/맵이면 원소 타입을 알 수 없으므로 json 코덱으로 위임
+ * - 첫 바이트가 0xC5 가 아니면 이전(json) 형식으로 읽는다
+ */
+public class CompactCacheValueCodec implements CacheValueCodec {
+
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte VERSION = 1;
+
+    private static final int FLAG_DEFLATE = 1;
+    private static final int FLAG_ENVELOPE = 1 << 1;
+
+    private final ObjectMapper smile;
+    private final JsonCacheValueCodec fallback = new JsonCacheValueCodec();
+    private final int compressThreshold;
+
+    public CompactCacheValueCodec(int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+        this.smile = new ObjectMapper(new SmileFactory())
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Override
+    public String name() {
+        return "compact";
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        CacheEnvelope envelope = value instanceof CacheEnvelope e ? e : null;
+        Object root = envelope != null ? envelope.getValue() : value;
+        if (root == null || root instanceof Collection || root instanceof Map || root.getClass().isArray()) {
+            return fallback.encode(value);
+        }
+
+        try {
+            byte[] payload = smile.writeValueAsBytes(root);
+            int flags = envelope != null ? FLAG_ENVELOPE : 0;
+            if (payload.length >= compressThreshold) {
+                byte[] deflated = deflate(payload);
+                if (deflated.length < payload.length) {
+                    payload = deflated;
+                    flags |= FLAG_DEFLATE;
+                }
+            }
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(payload.length + 64);
+            DataOutputStream out = new DataOutputStream(bos);
+            out.writeByte(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(flags);
+            if (envelope != null) {
+                out.writeLong(envelope.getExpiresAt());
+                out.writeLong(envelope.getDeltaMs());
+            }
+            out.writeUTF(root.getClass().getName());
+            out.write(payload);
+            out.flush();
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 인코딩 실패: " + root.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return null;
+        if (bytes[0] != MAGIC) return fallback.decode(bytes);
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            in.readByte();
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new SerializationException("지원하지 않는 캐시 코덱 버전: " + version);
+            }
+            int flags = in.readByte();
+            long expiresAt = 0, deltaMs = 0;
+            if ((flags & FLAG_ENVELOPE) != 0) {
+                expiresAt = in.readLong();
+                deltaMs = in.readLong();
+            }
+            Class<?> type = Class.forName(in.readUTF(), false, getClass().getClassLoader());
+            byte[] payload = in.readAllBytes();
+            if ((flags & FLAG_DEFLATE) != 0) payload = inflate(payload);
+
+            Object root = smile.readValue(payload, type);
+            return (flags & FLAG_ENVELOPE) != 0 ? new CacheEnvelope(root, expiresAt, deltaMs) : root;
+        } catch (IOException | ClassNotFoundException | DataFormatException e) {
+            throw new SerializationException("캐시 값 디코딩 실패", e);
+        }
+    }
+
+    @Override
+    public boolean isCompressed(byte[] encoded) {
+        return encoded != null && encoded.length > 2 && encoded[0] == MAGIC && (encoded[2] & FLAG_DEFLATE) != 0;
+    }
+
+    /* ------------------------- compression ------------------------- */
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+            byte[] buf = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buf);
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buf = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buf);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 잘렸습니다.");
+                }
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
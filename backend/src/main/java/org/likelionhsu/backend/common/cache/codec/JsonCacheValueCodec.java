@@ -0,0 +1,24 @@
+package org.likelionhsu.backend.common.cache.codec;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/** 기존 형식: 클래스명이 포함된 JSON */
+public class JsonCacheValueCodec implements CacheValueCodec {
+
+    private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return serializer.serialize(value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return serializer.deserialize(bytes);
+    }
+}
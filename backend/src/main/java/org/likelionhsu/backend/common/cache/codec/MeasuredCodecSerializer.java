@@ -0,0 +1,59 @@
+package org.likelionhsu.backend.common.cache.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** 캐시 하나의 값 직렬화기: 코덱에 위임하면서 크기/시간을 집계한다 */
+class MeasuredCodecSerializer implements RedisSerializer<Object> {
+
+    private final String cache;
+    private final CacheValueCodec codec;
+
+    private final LongAdder encoded = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder decoded = new LongAdder();
+    private final LongAdder decodedBytes = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+
+    MeasuredCodecSerializer(String cache, CacheValueCodec codec) {
+        this.cache = cache;
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) return new byte[0];
+        long start = System.nanoTime();
+        byte[] bytes = codec.encode(value);
+        encodeNanos.add(System.nanoTime() - start);
+        encoded.increment();
+        encodedBytes.add(bytes.length);
+        if (codec.isCompressed(bytes)) compressed.increment();
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        long start = System.nanoTime();
+        Object value = codec.decode(bytes);
+        decodeNanos.add(System.nanoTime() - start);
+        decoded.increment();
+        decodedBytes.add(bytes.length);
+        return value;
+    }
+
+    CacheCodecStats stats() {
+        long enc = encoded.sum();
+        long dec = decoded.sum();
+        return new CacheCodecStats(cache, codec.name(),
+                enc, enc == 0 ? 0 : encodedBytes.sum() / enc, compressed.sum(),
+                enc == 0 ? 0 : encodeNanos.sum() / enc / 1_000,
+                dec, dec == 0 ? 0 : decodedBytes.sum() / dec,
+                dec == 0 ? 0 : decodeNanos.sum() / dec / 1_000);
+    }
+}
@@ -0,0 +1,93 @@
+package org.likelionhsu.backend.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncExecutorConfig {
+
+    /**
+     * AI 요약 비동기 작업 실행기
+     *  - 실제 모델 동시성은 FlaskConcurrencyLimiter 가 제어하므로 스레드는 적게, 대기열은 넉넉하게(상한 있음)
+     *  - 대기열이 차면 AbortPolicy → 호출부에서 503(AI_JOB_QUEUE_FULL)으로 변환
+     */
+    @Bean("aiJobExecutor")
+    public ThreadPoolTaskExecutor aiJobExecutor(
+            @Value("${ai.job.executor.threads:4}") int threads,
+            @Value("${ai.job.executor.queue-capacity:2000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * discovery 캐시 refresh-ahead 실행기
+     *  - 갱신은 best-effort 이므로 대기열이 차면 버린다(다음 접근/주기에 다시 시도)
+     */
+    @Bean("discoveryRefreshExecutor")
+    public ThreadPoolTaskExecutor discoveryRefreshExecutor(
+            @Value("${naver.search.cache.refresh-threads:2}") int threads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("discovery-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 네이버 뉴스 수집 실행기 (수집 라운드 1개 + 기사 본문 추출)
+     *  - 라운드가 같은 풀에 추출 작업을 넣고 기다리므로 최소 2스레드
+     *  - 대기열이 차면 CallerRunsPolicy → 라운드 스레드가 직접 추출(자연스러운 배압)
+     */
+    @Bean("newsIngestExecutor")
+    public ThreadPoolTaskExecutor newsIngestExecutor(
+            @Value("${naver.ingest.fetch-threads:4}") int threads
+    ) {
+        int n = Math.max(2, threads);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(n);
+        executor.setMaxPoolSize(n);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("news-ingest-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 탐색 결과 요약 프리페치 실행기
+     *  - 추측성 작업이라 대기열이 차면 버린다 (사용자가 클릭하면 그때 요약)
+     */
+    @Bean("summaryPrefetchExecutor")
+    public ThreadPoolTaskExecutor summaryPrefetchExecutor(
+            @Value("${explore.prefetch.threads:2}") int threads,
+            @Value("${explore.prefetch.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("summary-prefetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,52 +1,130 @@
 package org.likelionhsu.backend.common.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.likelionhsu.backend.common.cache.RedisCircuitBreaker;
+import org.likelionhsu.backend.common.cache.ResilientCacheManager;
+import org.likelionhsu.backend.common.cache.StampedeProtectedCacheManager;
+import org.likelionhsu.backend.common.cache.codec.CacheCodecs;
+import org.likelionhsu.backend.common.cache.TwoTierCacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 public class CacheConfig {
 
-    // Discovery(네이버 검색 결과 리스트) : 인메모리 10분 캐시
-    @Bean(name = "caffeineCacheManager")
-    public CacheManager caffeineCacheManager() {
-        CaffeineCacheManager manager = new CaffeineCacheManager("discovery");
-        manager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofMinutes(10))
-                .maximumSize(5_000));
-        return manager;
+    // 근접 캐시(L1, 노드 로컬 Caffeine)를 둘 캐시 이름들
+    @Value("${cache.near.names:summary,perdoc,discovery}")
+    private Set<String> nearCacheNames;
+
+    @Value("${cache.near.ttl-seconds:300}")
+    private long nearTtlSeconds;
+
+    @Value("${cache.near.max-size:5000}")
+    private long nearMaxSize;
+
+    // stampede 보호(재계산 락 + XFetch 조기 재계산 + 이전 값 제공)를 둘 캐시 이름들
+    @Value("${cache.stampede.names:content,summary,perdoc}")
+    private Set<String> stampedeCacheNames;
+
+    // 논리 만료 후에도 이전 값을 유지하는 시간 (재계산 중 제공)
+    @Value("${cache.stampede.stale-seconds:600}")
+    private long stampedeStaleSeconds;
+
+    @Value("${cache.stampede.lock-seconds:60}")
+    private long stampedeLockSeconds;
+
+    @Value("${cache.stampede.cold-wait-ms:5000}")
+    private long stampedeColdWaitMs;
+
+    @Value("${cache.stampede.beta:1.0}")
+    private double stampedeBeta;
+
+    @Value("${cache.stampede.default-delta-ms:3000}")
+    private long stampedeDefaultDeltaMs;
+
+    // Redis 캐시 값 코덱: compact(Smile 바이너리 + 임계값 이상 deflate) | json(기존 형식)
+    @Bean
+    public CacheCodecs cacheCodecs(@Value("${cache.codec.type:compact}") String codec,
+                                   @Value("${cache.codec.compress-threshold-bytes:1024}") int compressThreshold) {
+        return new CacheCodecs(codec, compressThreshold);
+    }
+
+    // 캐시용 Redis 호출 서킷 브레이커 (장애/지연 시 로컬 fallback)
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(
+            @Value("${cache.redis.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${cache.redis.breaker.open-ms:10000}") long openMs,
+            @Value("${cache.redis.breaker.slow-call-ms:250}") long slowCallMs) {
+        return new RedisCircuitBreaker(failureThreshold, openMs, slowCallMs);
     }
 
-    // 본문/요약 : Redis 공유 캐시
+    // 본문/요약/검색 결과 : Redis 공유 캐시(L2, 장애 fallback + stampede 보호) + 선택 캐시는 Caffeine L1
     @Primary
     @Bean(name = "redisCacheManager")
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                          StringRedisTemplate stringRedisTemplate,
+                                          ObjectMapper objectMapper,
+                                          RedisMessageListenerContainer listenerContainer,
+                                          CacheCodecs cacheCodecs,
+                                          RedisCircuitBreaker breaker,
+                                          @Value("${cache.redis.fallback.max-size:2000}") long fallbackMaxSize,
+                                          @Value("${cache.redis.fallback.ttl-seconds:600}") long fallbackTtlSeconds) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheCodecs.serializerFor("default")))
                 .disableCachingNullValues();
 
+        Map<String, Duration> ttls = new HashMap<>();
+        ttls.put("content", Duration.ofHours(6));      // 외부 본문
+        ttls.put("summary", Duration.ofHours(2));      // 최종 요약
+        ttls.put("perdoc", Duration.ofHours(24));      // ✅ 문서별 요약 (24h)
+        ttls.put("discovery", Duration.ofMinutes(40)); // 네이버 검색 결과 (신선도 10분 + stale grace 30분, DiscoveryCache)
+
+        Duration stale = Duration.ofSeconds(Math.max(0, stampedeStaleSeconds));
+        Map<String, Duration> protectedTtls = new HashMap<>();
         Map<String, RedisCacheConfiguration> configs = new HashMap<>();
-        configs.put("content", defaultConfig.entryTtl(Duration.ofHours(6)));   // 외부 본문
-        configs.put("summary", defaultConfig.entryTtl(Duration.ofHours(2)));   // 최종 요약
-        configs.put("perdoc", defaultConfig.entryTtl(Duration.ofHours(24)));   // ✅ 문서별 요약 (24h)
+        ttls.forEach((name, ttl) -> {
+            RedisCacheConfiguration config = defaultConfig.serializeValuesWith(
+                    RedisSerializationContext.SerializationPair.fromSerializer(cacheCodecs.serializerFor(name))); // 캐시별 크기/시간 통계
+            if (stampedeCacheNames.contains(name)) {
+                protectedTtls.put(name, ttl);
+                configs.put(name, config.entryTtl(ttl.plus(stale))); // 논리 TTL 은 CacheEnvelope 가 관리
+            } else {
+                configs.put(name, config.entryTtl(ttl));
+            }
+        });
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager l2 = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(configs)
                 .build();
+        l2.afterPropertiesSet(); // 빈이 아니므로 초기 캐시 설정을 직접 로드
+
+        // Redis 장애 시 로컬 Caffeine 으로 대체, 복구되면 장애 중 변경분을 Redis 에 반영
+        CacheManager resilientL2 = new ResilientCacheManager(l2, breaker,
+                Math.max(1, fallbackMaxSize), Duration.ofSeconds(Math.max(1, fallbackTtlSeconds)));
+
+        CacheManager protectedL2 = new StampedeProtectedCacheManager(resilientL2, stringRedisTemplate, breaker, protectedTtls,
+                Duration.ofSeconds(Math.max(1, stampedeLockSeconds)), Math.max(0, stampedeColdWaitMs),
+                stampedeBeta, Math.max(1, stampedeDefaultDeltaMs));
+
+        return new TwoTierCacheManager(protectedL2, nearCacheNames,
+                Duration.ofSeconds(Math.max(1, nearTtlSeconds)), Math.max(1, nearMaxSize),
+                stringRedisTemplate, objectMapper, breaker, listenerContainer);
     }
 }
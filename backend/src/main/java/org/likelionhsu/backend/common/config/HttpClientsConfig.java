@@ -68,6 +68,28 @@ public class HttpClientsConfig {
                 .build();
     }
 
+    /**
+     * Flask 모델 서버(요약 전용 레플리카들). baseUrl 없이 FlaskModelEndpointPool 이 고른 엔드포인트로 절대 URI 호출.
+     * 크롤링용 flaskWebClient(crawler.api.url)와 분리해 요약만 수평 확장할 수 있게 한다.
+     */
+    @Bean("flaskModelWebClient")
+    public WebClient flaskModelWebClient(WebClient.Builder builder) {
+        HttpClient http = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5_000)
+                .responseTimeout(Duration.ofSeconds(300))
+                .doOnConnected(conn -> conn
+                        .addHandlerLast(new ReadTimeoutHandler(305, TimeUnit.SECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(305, TimeUnit.SECONDS)));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(http))
+                .exchangeStrategies(strategies(8))
+                .filter(timing("model"))
+                .defaultHeader("Accept", "application/json")
+                .defaultHeader("Accept-Encoding", "identity")
+                .build();
+    }
+
     /** 외부 API (NAVER/KMA 등, 90s) */
     @Bean("externalWebClient")
     public WebClient externalWebClient(WebClient.Builder builder) {
@@ -16,7 +16,7 @@ public class LocalCacheFallbackConfig {
     @Primary
     @Bean(name = "redisCacheManager")
     public CacheManager fakeRedisCacheManager() {
-        CaffeineCacheManager m = new CaffeineCacheManager("content", "summary", "perdoc"); // ✅ perdoc 포함
+        CaffeineCacheManager m = new CaffeineCacheManager("content", "summary", "perdoc", "discovery"); // ✅ perdoc/discovery 포함
         m.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(Duration.ofHours(2))
                 .maximumSize(10_000));
@@ -13,13 +13,21 @@ public enum ErrorCode {
 
     // Post
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다. 처음부터 다시 조회해주세요."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "잘못된 기간입니다. 날짜는 yyyy-MM-dd 형식이며 from 이 to 보다 늦을 수 없습니다."),
+
+    // AI / Flask 모델 서버
+    AI_MODEL_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "요약 서버가 혼잡합니다. 잠시 후 다시 시도해주세요."),
+    AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "요약 작업을 찾을 수 없습니다. 만료되었을 수 있습니다."),
+    AI_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "요약 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
 
     // Naver API
     NAVER_API_BAD_REQUEST(HttpStatus.BAD_REQUEST, "네이버 API 요청이 잘못되었습니다. 파라미터를 확인해주세요."),
     NAVER_API_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "네이버 API 인증에 실패했습니다. 클라이언트 ID/Secret을 확인해주세요."),
     NAVER_API_NOT_FOUND(HttpStatus.NOT_FOUND, "네이버 API를 찾을 수 없습니다. URL을 확인해주세요."),
     NAVER_API_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "네이버 API 서버에 오류가 발생했습니다. 잠시 후 다시 시도해주세요."),
-    NAVER_API_UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "네이버 API 호출 중 알 수 없는 오류가 발생했습니다.");
+    NAVER_API_UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "네이버 API 호출 중 알 수 없는 오류가 발생했습니다."),
+    NAVER_API_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "네이버 API 호출 한도에 도달했습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus status;
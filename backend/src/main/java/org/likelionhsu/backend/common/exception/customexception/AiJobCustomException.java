@@ -0,0 +1,11 @@
+package org.likelionhsu.backend.common.exception.customexception;
+
+import org.likelionhsu.backend.common.exception.CustomException;
+import org.likelionhsu.backend.common.exception.ErrorCode;
+
+public class AiJobCustomException extends CustomException {
+
+    public AiJobCustomException(ErrorCode errorCode) {
+        super(errorCode, errorCode.getMessage());
+    }
+}
@@ -0,0 +1,12 @@
+package org.likelionhsu.backend.common.exception.customexception;
+
+import org.likelionhsu.backend.common.exception.CustomException;
+import org.likelionhsu.backend.common.exception.ErrorCode;
+
+/** Flask 모델 서버 동시성 한도 초과(대기열 포화/대기 시간 초과) 시 즉시 실패 신호 */
+public class FlaskOverloadedException extends CustomException {
+
+    public FlaskOverloadedException(String detail) {
+        super(ErrorCode.AI_MODEL_OVERLOADED, ErrorCode.AI_MODEL_OVERLOADED.getMessage() + " (" + detail + ")");
+    }
+}
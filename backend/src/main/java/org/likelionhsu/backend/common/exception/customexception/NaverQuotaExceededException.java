@@ -0,0 +1,12 @@
+package org.likelionhsu.backend.common.exception.customexception;
+
+import org.likelionhsu.backend.common.exception.CustomException;
+import org.likelionhsu.backend.common.exception.ErrorCode;
+
+/** 네이버 API 쿼터(일/초 단위 예산) 부족으로 호출을 보내지 않았을 때 */
+public class NaverQuotaExceededException extends CustomException {
+
+    public NaverQuotaExceededException(String detail) {
+        super(ErrorCode.NAVER_API_QUOTA_EXCEEDED, ErrorCode.NAVER_API_QUOTA_EXCEEDED.getMessage() + " (" + detail + ")");
+    }
+}
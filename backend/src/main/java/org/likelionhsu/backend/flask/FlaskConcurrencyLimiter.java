@@ -0,0 +1,335 @@
+package org.likelionhsu.backend.flask;
+
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.common.exception.customexception.FlaskOverloadedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Flask 모델 서버 앞단의 적응형 동시성 제한기 (AIMD) + 우선순위 스케줄러
+ *  - 정상 응답: limit 가산 증가(+1/limit), 지연 임계 초과/서버 오류: limit 곱셈 감소(x backoffRatio)
+ *  - limit 를 넘는 요청은 우선순위 클래스별 bounded 대기열에서 대기 (클래스별 max-wait)
+ *  - 빈 슬롯은 클래스 weight 비율로 공정 배분(stride), starvation 임계를 넘긴 대기자는 우선 처리
+ *  - INTERACTIVE 이외 클래스는 슬롯 1개를 남겨 두고만 진입 (limit >= 2 일 때)
+ *  - 대기열 포화/대기 시간 초과 시 FlaskOverloadedException 으로 즉시 실패 → 호출부가 폴백
+ *  - limit 상한은 엔드포인트당 상한 × 지금 쓸 수 있는 레플리카 수 (FlaskModelEndpointPool.available).
+ *    레플리카를 늘리면 처리량이 같이 늘고, 제외/비정상이 되면 상한이 바로 줄어든다
+ */
+@Slf4j
+@Component
+public class FlaskConcurrencyLimiter {
+
+    enum Outcome { SUCCESS, DROPPED, IGNORED }
+
+    private static final double STRIDE = 1.0;
+
+    private final FlaskModelEndpointPool endpointPool;
+    private final int minLimit;
+    private final int maxLimitPerEndpoint;
+    private final int maxQueue;
+    private final Duration maxWait;
+    private final long latencyThresholdNanos;
+    private final long starvationNanos;
+    private final double backoffRatio;
+
+    // ---- 아래 상태는 this 락으로 보호 ----
+    private double limit;
+    private int inFlight;
+    private double virtualTime;
+    private final Map<SummaryPriority, ClassQueue> queues = new EnumMap<>(SummaryPriority.class);
+
+    public FlaskConcurrencyLimiter(
+            FlaskModelEndpointPool endpointPool,
+            @Value("${ai.flask.limiter.initial-limit:2}") int initialLimit,
+            @Value("${ai.flask.limiter.min-limit:1}") int minLimit,
+            @Value("${ai.flask.limiter.max-limit-per-endpoint:${ai.flask.limiter.max-limit:8}}") int maxLimitPerEndpoint,
+            @Value("${ai.flask.limiter.max-queue:32}") int maxQueue,
+            @Value("${ai.flask.limiter.max-wait-ms:15000}") long maxWaitMs,
+            @Value("${ai.flask.limiter.latency-threshold-ms:20000}") long latencyThresholdMs,
+            @Value("${ai.flask.limiter.starvation-ms:10000}") long starvationMs,
+            @Value("${ai.flask.limiter.backoff-ratio:0.7}") double backoffRatio
+    ) {
+        this.endpointPool = endpointPool;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimitPerEndpoint = Math.max(this.minLimit, maxLimitPerEndpoint);
+        this.maxQueue = Math.max(0, maxQueue);
+        this.maxWait = Duration.ofMillis(Math.max(0, maxWaitMs));
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.starvationNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, starvationMs));
+        this.backoffRatio = Math.min(0.95, Math.max(0.1, backoffRatio));
+        this.limit = Math.min(ceiling(), Math.max(this.minLimit, initialLimit));
+        for (SummaryPriority p : SummaryPriority.values()) {
+            queues.put(p, new ClassQueue((int) Math.max(1, Math.round(this.maxQueue * p.queueShare()))));
+        }
+    }
+
+    /** 현재 스레드의 우선순위({@link SummaryPriority#current()})로 실행 */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return execute(SummaryPriority.current(), call);
+    }
+
+    /** call 은 허가를 받은 뒤에만 구독된다. 성공/실패/취소 어느 경우에도 허가는 한 번만 반납된다. */
+    public <T> Mono<T> execute(SummaryPriority priority, Supplier<Mono<T>> call) {
+        return Mono.usingWhen(
+                acquire(priority),
+                permit -> call.get(),
+                permit -> Mono.fromRunnable(() -> permit.release(Outcome.SUCCESS)),
+                (permit, err) -> Mono.fromRunnable(() -> permit.release(classify(err))),
+                permit -> Mono.fromRunnable(() -> permit.release(Outcome.IGNORED))
+        );
+    }
+
+    public LimiterStats snapshot() {
+        synchronized (this) {
+            Map<SummaryPriority, ClassStats> classes = new EnumMap<>(SummaryPriority.class);
+            int queued = 0;
+            long admitted = 0, rejected = 0, timeouts = 0;
+            for (var e : queues.entrySet()) {
+                ClassQueue q = e.getValue();
+                classes.put(e.getKey(), q.stats());
+                queued += q.waiters.size();
+                admitted += q.admitted.get();
+                rejected += q.rejected.get();
+                timeouts += q.waitTimeouts.get();
+            }
+            return new LimiterStats(effectiveLimitLocked(), ceiling(), inFlight, queued, admitted, rejected, timeouts, classes);
+        }
+    }
+
+    /** 우선순위 클래스별 현재 대기열 길이 (프리페처 등 백그라운드 작업의 스로틀 판단용) */
+    public int queued(SummaryPriority priority) {
+        synchronized (this) {
+            return queues.get(priority).waiters.size();
+        }
+    }
+
+    /* ------------------------- admission ------------------------- */
+
+    private Mono<Permit> acquire(SummaryPriority priority) {
+        return Mono.defer(() -> {
+            ClassQueue q = queues.get(priority);
+            Waiter w;
+            List<Waiter> granted = new ArrayList<>();
+            synchronized (this) {
+                if (allQueuesEmptyLocked() && hasRoomLocked(priority)) {
+                    return Mono.just(grantLocked(q, 0L));
+                }
+                if (q.waiters.size() >= q.capacity) {
+                    q.rejected.incrementAndGet();
+                    return Mono.error(new FlaskOverloadedException(priority + " queue full"));
+                }
+                if (q.waiters.isEmpty()) {
+                    // 유휴였던 클래스가 밀린 몫을 한꺼번에 가져가지 않도록 가상 시간에 맞춘다
+                    q.pass = Math.max(q.pass, virtualTime);
+                }
+                w = new Waiter(priority);
+                q.waiters.addLast(w);
+                // 다른 클래스 대기자 때문에 fast path 를 못 탔더라도 빈 슬롯이 있으면 바로 배분
+                drainLocked(granted);
+            }
+            for (Waiter g : granted) g.sink.tryEmitValue(g.permit);
+            Duration wait = maxWait.multipliedBy(priority.waitFactor());
+            return w.sink.asMono()
+                    .timeout(wait, Mono.defer(() -> onWaitTimeout(w, wait)))
+                    .doOnCancel(() -> abandon(w));
+        });
+    }
+
+    private Mono<Permit> onWaitTimeout(Waiter w, Duration wait) {
+        synchronized (this) {
+            ClassQueue q = queues.get(w.priority);
+            if (q.waiters.remove(w)) {
+                q.waitTimeouts.incrementAndGet();
+                return Mono.error(new FlaskOverloadedException(
+                        w.priority + " wait timeout " + wait.toMillis() + "ms"));
+            }
+        }
+        // 타임아웃 직전에 허가가 난 경우
+        return w.sink.asMono();
+    }
+
+    private void abandon(Waiter w) {
+        Permit leaked;
+        synchronized (this) {
+            if (queues.get(w.priority).waiters.remove(w)) return;
+            leaked = w.permit;
+        }
+        if (leaked != null) leaked.release(Outcome.IGNORED);
+    }
+
+    private boolean allQueuesEmptyLocked() {
+        for (ClassQueue q : queues.values()) {
+            if (!q.waiters.isEmpty()) return false;
+        }
+        return true;
+    }
+
+    /** 엔드포인트당 상한 × 쓸 수 있는 레플리카 수 (전부 제외된 panic 모드에서도 최소 1대분) */
+    private int ceiling() {
+        return maxLimitPerEndpoint * Math.max(1, endpointPool.available());
+    }
+
+    /** 레플리카가 빠져 상한이 줄었으면 AIMD 로 내려오기를 기다리지 않고 바로 상한을 적용 */
+    private int effectiveLimitLocked() {
+        int ceiling = ceiling();
+        if (limit > ceiling) limit = Math.max(minLimit, ceiling);
+        return (int) limit;
+    }
+
+    /** INTERACTIVE 는 limit 까지, 나머지는 limit >= 2 일 때 한 슬롯을 남겨 둔다. */
+    private boolean hasRoomLocked(SummaryPriority priority) {
+        int cap = effectiveLimitLocked();
+        if (priority != SummaryPriority.INTERACTIVE && cap >= 2) cap -= 1;
+        return inFlight < cap;
+    }
+
+    private Permit grantLocked(ClassQueue q, long waitedNanos) {
+        Permit p = new Permit(inFlight * 2 >= effectiveLimitLocked());
+        inFlight++;
+        q.admitted.incrementAndGet();
+        q.waitNanos.addAndGet(waitedNanos);
+        return p;
+    }
+
+    private void drainLocked(List<Waiter> granted) {
+        Waiter w;
+        while ((w = pollNextLocked()) != null) granted.add(w);
+    }
+
+    /** 다음에 슬롯을 줄 대기자: starvation 임계를 넘긴 가장 오래된 대기자 → 없으면 pass 가 가장 작은 클래스 */
+    private Waiter pollNextLocked() {
+        long now = System.nanoTime();
+        SummaryPriority pick = null;
+        long oldest = Long.MAX_VALUE;
+        for (var e : queues.entrySet()) {
+            Waiter head = e.getValue().waiters.peekFirst();
+            if (head == null || !hasRoomLocked(e.getKey())) continue;
+            if (now - head.enqueuedAt >= starvationNanos && head.enqueuedAt < oldest) {
+                oldest = head.enqueuedAt;
+                pick = e.getKey();
+            }
+        }
+        if (pick == null) {
+            double minPass = Double.MAX_VALUE;
+            for (var e : queues.entrySet()) {
+                ClassQueue q = e.getValue();
+                if (q.waiters.isEmpty() || !hasRoomLocked(e.getKey())) continue;
+                if (q.pass < minPass) {
+                    minPass = q.pass;
+                    pick = e.getKey();
+                }
+            }
+        }
+        if (pick == null) return null;
+
+        ClassQueue q = queues.get(pick);
+        virtualTime = Math.max(virtualTime, q.pass);
+        q.pass += STRIDE / pick.weight();
+        Waiter w = q.waiters.pollFirst();
+        w.permit = grantLocked(q, now - w.enqueuedAt);
+        return w;
+    }
+
+    private void onRelease(Permit permit, Outcome outcome) {
+        long rtt = System.nanoTime() - permit.startedAt;
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            adjustLocked(permit, rtt, outcome);
+            drainLocked(granted);
+        }
+        for (Waiter w : granted) w.sink.tryEmitValue(w.permit);
+    }
+
+    /** AIMD: 지연/실패는 곱셈 감소, 포화 상태에서의 정상 응답은 가산 증가 */
+    private void adjustLocked(Permit permit, long rttNanos, Outcome outcome) {
+        double before = limit;
+        if (outcome == Outcome.DROPPED || (outcome == Outcome.SUCCESS && rttNanos > latencyThresholdNanos)) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (outcome == Outcome.SUCCESS && permit.saturated) {
+            limit = Math.min(ceiling(), limit + 1.0 / limit);
+        }
+        if ((int) before != (int) limit) {
+            log.info("[flask-limiter] limit {} -> {} (outcome={}, rtt={}ms, inFlight={})",
+                    (int) before, (int) limit, outcome,
+                    TimeUnit.NANOSECONDS.toMillis(rttNanos), inFlight);
+        }
+    }
+
+    /** 4xx 는 요청 자체의 문제이므로 limit 조정에 반영하지 않는다. */
+    private static Outcome classify(Throwable err) {
+        if (err instanceof WebClientResponseException w && w.getStatusCode().is4xxClientError()) {
+            return Outcome.IGNORED;
+        }
+        return Outcome.DROPPED;
+    }
+
+    /* ------------------------- types ------------------------- */
+
+    private final class Permit {
+        private final long startedAt = System.nanoTime();
+        private final boolean saturated;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(boolean saturated) {
+            this.saturated = saturated;
+        }
+
+        void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) onRelease(this, outcome);
+        }
+    }
+
+    private static final class Waiter {
+        final SummaryPriority priority;
+        final long enqueuedAt = System.nanoTime();
+        final Sinks.One<Permit> sink = Sinks.one();
+        Permit permit; // limiter 락 하에서 기록
+
+        Waiter(SummaryPriority priority) {
+            this.priority = priority;
+        }
+    }
+
+    private static final class ClassQueue {
+        final int capacity;
+        final Deque<Waiter> waiters = new ArrayDeque<>();
+        final AtomicLong admitted = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong waitTimeouts = new AtomicLong();
+        final AtomicLong waitNanos = new AtomicLong();
+        double pass;
+
+        ClassQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        ClassStats stats() {
+            long n = admitted.get();
+            long avgWaitMs = n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(waitNanos.get() / n);
+            return new ClassStats(waiters.size(), capacity, n, rejected.get(), waitTimeouts.get(), avgWaitMs);
+        }
+    }
+
+    public record ClassStats(int queued, int capacity, long admitted, long rejected,
+                             long waitTimeouts, long avgWaitMs) {}
+
+    public record LimiterStats(int limit, int ceiling, int inFlight, int queued,
+                               long admitted, long rejected, long waitTimeouts,
+                               Map<SummaryPriority, ClassStats> classes) {}
+}
@@ -0,0 +1,212 @@
+package org.likelionhsu.backend.flask;
+
+import io.netty.channel.ConnectTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 요약 전용 Flask 모델 서버 레플리카 풀 (클라이언트 사이드 로드밸런싱)
+ *  - ai.model.urls 에 나열된 엔드포인트 중 in-flight 요청이 가장 적은 곳으로 보냄(동률이면 무작위)
+ *  - 능동 헬스체크: 주기적으로 GET /health, 연속 실패 시 unhealthy
+ *    (동기 워커가 요약 중이라 /health 가 늦는 경우는 오판하지 않도록, 처리 중인 엔드포인트의 타임아웃은 무시)
+ *  - 아웃라이어 제거: 연속 N회 실패 시 일정 시간 제외, 반복될수록 제외 시간 증가(상한 있음)
+ *  - 모든 엔드포인트가 제외되면 panic 모드로 전체 중에서 선택 (요청을 버리지 않음)
+ * 크롤링 엔드포인트(FlaskService, crawler.api.url)와는 분리되어 있다.
+ */
+@Slf4j
+@Component
+public class FlaskModelEndpointPool {
+
+    private final WebClient client;
+    private final List<Endpoint> endpoints;
+    private final int ejectAfterFailures;
+    private final long baseEjectMillis;
+    private final long maxEjectMillis;
+    private final int unhealthyAfterChecks;
+    private final Duration healthTimeout;
+
+    public FlaskModelEndpointPool(
+            @Qualifier("flaskModelWebClient") WebClient client,
+            @Value("${ai.model.urls:${crawler.api.url:http://crawler:5001}}") List<String> urls,
+            @Value("${ai.model.outlier.consecutive-failures:3}") int ejectAfterFailures,
+            @Value("${ai.model.outlier.eject-ms:30000}") long baseEjectMillis,
+            @Value("${ai.model.outlier.max-eject-ms:300000}") long maxEjectMillis,
+            @Value("${ai.model.health.unhealthy-after:2}") int unhealthyAfterChecks,
+            @Value("${ai.model.health.timeout-ms:2000}") long healthTimeoutMs
+    ) {
+        this.client = client;
+        this.endpoints = urls.stream()
+                .map(String::trim)
+                .filter(u -> !u.isEmpty())
+                .map(u -> u.endsWith("/") ? u.substring(0, u.length() - 1) : u)
+                .distinct()
+                .map(Endpoint::new)
+                .toList();
+        if (this.endpoints.isEmpty()) {
+            throw new IllegalStateException("ai.model.urls 가 비어 있습니다.");
+        }
+        this.ejectAfterFailures = Math.max(1, ejectAfterFailures);
+        this.baseEjectMillis = Math.max(1_000, baseEjectMillis);
+        this.maxEjectMillis = Math.max(this.baseEjectMillis, maxEjectMillis);
+        this.unhealthyAfterChecks = Math.max(1, unhealthyAfterChecks);
+        this.healthTimeout = Duration.ofMillis(Math.max(100, healthTimeoutMs));
+        log.info("[model-pool] endpoints={}", this.endpoints.stream().map(e -> e.baseUrl).toList());
+    }
+
+    /** baseUrl 을 받아 요청 Mono 를 만드는 call 을, 선택된 엔드포인트로 실행 */
+    public <T> Mono<T> execute(Function<String, Mono<T>> call) {
+        return Mono.defer(() -> {
+            Endpoint ep = choose();
+            ep.outstanding.incrementAndGet();
+            return call.apply(ep.baseUrl)
+                    .doOnSuccess(v -> ep.onSuccess())
+                    .doOnError(err -> {
+                        if (countsAsFailure(err)) onFailure(ep, err);
+                    })
+                    .doFinally(sig -> ep.outstanding.decrementAndGet());
+        });
+    }
+
+    /** 지금 요청을 받을 수 있는(정상이고 제외되지 않은) 엔드포인트 수 */
+    public int available() {
+        long now = System.currentTimeMillis();
+        int n = 0;
+        for (Endpoint e : endpoints) {
+            if (e.healthy && e.ejectedUntil <= now) n++;
+        }
+        return n;
+    }
+
+    public List<EndpointStats> snapshot() {
+        long now = System.currentTimeMillis();
+        return endpoints.stream()
+                .map(e -> new EndpointStats(e.baseUrl, e.outstanding.get(), e.healthy,
+                        e.ejectedUntil > now, e.consecutiveFailures.get(), e.ejections.get()))
+                .toList();
+    }
+
+    /* ------------------------- selection ------------------------- */
+
+    private Endpoint choose() {
+        long now = System.currentTimeMillis();
+        List<Endpoint> candidates = new ArrayList<>();
+        for (Endpoint e : endpoints) {
+            if (e.healthy && e.ejectedUntil <= now) candidates.add(e);
+        }
+        if (candidates.isEmpty()) {
+            // panic: 전부 제외/비정상이면 전체를 대상으로 선택
+            candidates = endpoints;
+        }
+        if (candidates.size() == 1) return candidates.get(0);
+
+        int min = candidates.stream().mapToInt(e -> e.outstanding.get()).min().orElse(0);
+        List<Endpoint> least = candidates.stream().filter(e -> e.outstanding.get() == min).toList();
+        if (least.isEmpty()) {
+            return candidates.stream().min(Comparator.comparingInt(e -> e.outstanding.get())).orElseThrow();
+        }
+        return least.get(ThreadLocalRandom.current().nextInt(least.size()));
+    }
+
+    private void onFailure(Endpoint ep, Throwable err) {
+        int failures = ep.consecutiveFailures.incrementAndGet();
+        if (failures < ejectAfterFailures) return;
+
+        long n = ep.ejections.incrementAndGet();
+        long ejectMs = Math.min(maxEjectMillis, baseEjectMillis * n);
+        ep.ejectedUntil = System.currentTimeMillis() + ejectMs;
+        ep.consecutiveFailures.set(0);
+        log.warn("[model-pool] eject {} for {}ms (failures={}, cause={})", ep.baseUrl, ejectMs, failures, err.toString());
+    }
+
+    /** 4xx 는 요청 문제이므로 엔드포인트 실패로 보지 않는다. */
+    private static boolean countsAsFailure(Throwable err) {
+        return !(err instanceof WebClientResponseException w && w.getStatusCode().is4xxClientError());
+    }
+
+    /* ------------------------- active health check ------------------------- */
+
+    @Scheduled(fixedDelayString = "${ai.model.health.interval-ms:10000}",
+            initialDelayString = "${ai.model.health.initial-delay-ms:5000}")
+    public void checkHealth() {
+        try {
+            probeAll().block(healthTimeout.multipliedBy(2));
+        } catch (Exception e) {
+            log.debug("[model-pool] health check round failed: {}", e.toString());
+        }
+    }
+
+    private Mono<Void> probeAll() {
+        return Flux.fromIterable(endpoints)
+                .flatMap(ep -> client.get()
+                        .uri(ep.baseUrl + "/health")
+                        .retrieve()
+                        .toBodilessEntity()
+                        .timeout(healthTimeout)
+                        .map(res -> true)
+                        .onErrorResume(err -> {
+                            // 요약 처리 중(동기 워커 점유)이라 늦는 것은 장애로 보지 않는다
+                            if (ep.outstanding.get() > 0 && !isConnectFailure(err)) return Mono.empty();
+                            return Mono.just(false);
+                        })
+                        .doOnNext(ok -> ep.onHealth(ok, unhealthyAfterChecks)))
+                .then();
+    }
+
+    private static boolean isConnectFailure(Throwable err) {
+        Throwable cause = err instanceof WebClientRequestException ? err.getCause() : err;
+        return cause instanceof ConnectException || cause instanceof ConnectTimeoutException;
+    }
+
+    /* ------------------------- types ------------------------- */
+
+    private static final class Endpoint {
+        final String baseUrl;
+        final AtomicInteger outstanding = new AtomicInteger();
+        final AtomicInteger consecutiveFailures = new AtomicInteger();
+        final AtomicInteger failedChecks = new AtomicInteger();
+        final AtomicLong ejections = new AtomicLong();
+        volatile long ejectedUntil;
+        volatile boolean healthy = true;
+
+        Endpoint(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        void onSuccess() {
+            consecutiveFailures.set(0);
+            ejections.set(0);
+        }
+
+        void onHealth(boolean ok, int unhealthyAfter) {
+            if (ok) {
+                failedChecks.set(0);
+                if (!healthy) log.info("[model-pool] {} healthy again", baseUrl);
+                healthy = true;
+            } else if (failedChecks.incrementAndGet() >= unhealthyAfter && healthy) {
+                healthy = false;
+                log.warn("[model-pool] {} marked unhealthy", baseUrl);
+            }
+        }
+    }
+
+    public record EndpointStats(String baseUrl, int outstanding, boolean healthy,
+                                boolean ejected, int consecutiveFailures, long ejections) {}
+}
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import org.likelionhsu.backend.common.exception.customexception.FlaskOverloadedException;
+import org.likelionhsu.backend.flask.dto.request.SummarizeRequest;
+import org.likelionhsu.backend.flask.dto.response.SummarizeResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -19,7 +22,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class FlaskSummarizeClient {
 
-    private final WebClient flaskWebClient;
+    private final WebClient flaskModelWebClient;   // 요약 전용 (엔드포인트는 pool 이 선택)
+    private final FlaskModelEndpointPool modelPool;
+    private final FlaskConcurrencyLimiter limiter;
 
     @Value("${ai.summarizer.temperature:0.2}")
     private double temperature;
@@ -32,19 +37,18 @@ public class FlaskSummarizeClient {
     @Value("${ai.prompt.stop-sequences:}")
     private List<String> stopSequences;
 
+    /*
+     * 모든 호출은 FlaskConcurrencyLimiter → FlaskModelEndpointPool(레플리카 선택) 순서로 통과한다.
+     * 일반 오류는 기존처럼 "" 로 흡수하고, 과부하(FlaskOverloadedException)만 그대로 전파해
+     * 호출부가 모델 호출 없이 폴백(원문 클립/추출식 요약)으로 전환할 수 있게 한다.
+     */
+
     /** KoBART 텍스트 전용: {"text": "..."} -> {"summary": "..."} */
     public Mono<String> summarizeText(String text) {
         Map<String, Object> payload = Map.of("text", text);
-        return flaskWebClient.post()
-                .uri("/summarize")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .acceptCharset(StandardCharsets.UTF_8)
-                .bodyValue(payload)
-                .retrieve()
-                .bodyToMono(SummarizeRes.class)
+        return limiter.execute(() -> post(payload, SummarizeRes.class))
                 .map(res -> res != null ? res.getSummary() : "")
-                .onErrorReturn("");
+                .onErrorResume(e -> !(e instanceof FlaskOverloadedException), e -> Mono.just(""));
     }
 
     /** Reduce(합산 요약): {"system": "...", "user": "..."} -> {"summary": "..."} */
@@ -60,16 +64,25 @@ public class FlaskSummarizeClient {
                         "stop", stopSequences
                 )
         );
-        return flaskWebClient.post()
-                .uri("/summarize")
+        return limiter.execute(() -> post(payload, SummarizeRes.class))
+                .map(res -> res != null ? res.getSummary() : "")
+                .onErrorResume(e -> !(e instanceof FlaskOverloadedException), e -> Mono.just(""));
+    }
+
+    /** /flask/summarize 프록시용: 오류를 흡수하지 않고 그대로 전파 */
+    public Mono<SummarizeResponse> summarizeRaw(SummarizeRequest req) {
+        return limiter.execute(() -> post(req, SummarizeResponse.class));
+    }
+
+    private <T> Mono<T> post(Object payload, Class<T> type) {
+        return modelPool.execute(baseUrl -> flaskModelWebClient.post()
+                .uri(baseUrl + "/summarize")
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
                 .acceptCharset(StandardCharsets.UTF_8)
                 .bodyValue(payload)
                 .retrieve()
-                .bodyToMono(SummarizeRes.class)
-                .map(res -> res != null ? res.getSummary() : "")
-                .onErrorReturn("");
+                .bodyToMono(type));
     }
 
     @Data
@@ -0,0 +1,48 @@
+package org.likelionhsu.backend.flask;
+
+import java.util.function.Supplier;
+
+/**
+ * 요약(모델 서버) 작업 우선순위 클래스
+ *  - weight      : 대기열 간 가중 공정 배분 비율 (INTERACTIVE 8 : BATCH 3 : BACKGROUND 1)
+ *  - waitFactor  : 기본 max-wait 대비 허용 대기 배수 (뒤쪽 클래스일수록 오래 기다려도 됨)
+ *  - queueShare  : 전체 max-queue 중 이 클래스가 점유할 수 있는 비율
+ *
+ * 현재 스레드의 우선순위는 {@link #with} 로 지정한다. 지정이 없으면 INTERACTIVE.
+ * (요약 호출은 호출 스레드에서 조립되므로 ThreadLocal 로 충분)
+ */
+public enum SummaryPriority {
+    INTERACTIVE(8, 1, 1.0),
+    BATCH(3, 4, 0.5),
+    BACKGROUND(1, 8, 0.25);
+
+    private static final ThreadLocal<SummaryPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    private final int weight;
+    private final int waitFactor;
+    private final double queueShare;
+
+    SummaryPriority(int weight, int waitFactor, double queueShare) {
+        this.weight = weight;
+        this.waitFactor = waitFactor;
+        this.queueShare = queueShare;
+    }
+
+    public int weight() { return weight; }
+    public int waitFactor() { return waitFactor; }
+    public double queueShare() { return queueShare; }
+
+    public static SummaryPriority current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T with(SummaryPriority priority, Supplier<T> body) {
+        SummaryPriority prev = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return body.get();
+        } finally {
+            CURRENT.set(prev);
+        }
+    }
+}
@@ -1,20 +1,30 @@
 // src/main/java/.../flask/controller/FlaskController.java
 package org.likelionhsu.backend.flask.controller;
 
+import org.likelionhsu.backend.flask.FlaskConcurrencyLimiter;
+import org.likelionhsu.backend.flask.FlaskModelEndpointPool;
 import org.likelionhsu.backend.flask.dto.request.SummarizeRequest;
 import org.likelionhsu.backend.flask.dto.response.SummarizeResponse;
 import org.likelionhsu.backend.flask.service.FlaskService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/flask")
 public class FlaskController {
 
     private final FlaskService flaskService;
+    private final FlaskConcurrencyLimiter limiter;
+    private final FlaskModelEndpointPool modelPool;
 
-    public FlaskController(FlaskService flaskService) {
+    public FlaskController(FlaskService flaskService,
+                           FlaskConcurrencyLimiter limiter,
+                           FlaskModelEndpointPool modelPool) {
         this.flaskService = flaskService;
+        this.limiter = limiter;
+        this.modelPool = modelPool;
     }
 
     @GetMapping("/crawl_all")
@@ -39,5 +49,15 @@ public class FlaskController {
         return flaskService.summarize(request);
     }
 
-    
+    /** 모델 서버 동시성 제한기 현황 (limit / in-flight / 우선순위 클래스별 대기열·거절·평균 대기) */
+    @GetMapping("/summarize/stats")
+    public ResponseEntity<FlaskConcurrencyLimiter.LimiterStats> getSummarizeStats() {
+        return ResponseEntity.ok(limiter.snapshot());
+    }
+
+    /** 요약 모델 레플리카별 상태 (in-flight / health / 제외 여부) */
+    @GetMapping("/model/endpoints")
+    public ResponseEntity<List<FlaskModelEndpointPool.EndpointStats>> getModelEndpoints() {
+        return ResponseEntity.ok(modelPool.snapshot());
+    }
 }
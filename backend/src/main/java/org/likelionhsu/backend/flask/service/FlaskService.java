@@ -1,30 +1,54 @@
 package org.likelionhsu.backend.flask.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.flask.FlaskSummarizeClient;
 import org.likelionhsu.backend.flask.dto.request.SummarizeRequest;
 import org.likelionhsu.backend.flask.dto.response.SummarizeResponse;
+import org.likelionhsu.backend.post.cache.PostsChangedEvent;
+import org.likelionhsu.backend.post.repository.PostRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Slf4j
 @Service
 public class FlaskService {
 
-    private final WebClient flask;
+    private final WebClient flask;                       // 크롤링 엔드포인트 (crawler.api.url)
+    private final FlaskSummarizeClient summarizeClient;  // 요약은 모델 레플리카 풀로
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ★ 생성자 파라미터에 Qualifier 명시
-    public FlaskService(@Qualifier("flaskWebClient") WebClient flask) {
+    public FlaskService(@Qualifier("flaskWebClient") WebClient flask,
+                        FlaskSummarizeClient summarizeClient,
+                        PostRepository postRepository,
+                        ApplicationEventPublisher eventPublisher) {
         this.flask = flask;
+        this.summarizeClient = summarizeClient;
+        this.postRepository = postRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    /** 크롤 후(실패/타임아웃 포함) 크롤 전 MAX(crawled_at) 이후 변경분으로 게시글 캐시를 무효화한다 */
     public ResponseEntity<?> crawlAll(Integer pages) {
-        var body = flask.get()
+        LocalDateTime before = postRepository.findMaxCrawledAt();
+        try {
+            return ResponseEntity.ok(requestCrawlAll(pages));
+        } finally {
+            eventPublisher.publishEvent(PostsChangedEvent.crawledAfter(before));
+        }
+    }
+
+    private Map<String, Object> requestCrawlAll(Integer pages) {
+        return flask.get()
                 .uri(uriBuilder -> uriBuilder.path("/crawl_all")
                         .queryParamIfPresent("pages", pages == null
                                 ? java.util.Optional.empty()
@@ -34,7 +58,6 @@ public class FlaskService {
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
                 .timeout(Duration.ofSeconds(305))
                 .block();
-        return ResponseEntity.ok(body);
     }
 
     public ResponseEntity<?> popularTerms() {
@@ -58,11 +81,8 @@ public class FlaskService {
     }
 
     public ResponseEntity<SummarizeResponse> summarize(SummarizeRequest req) {
-        var res = flask.post()
-                .uri("/summarize")
-                .bodyValue(req)
-                .retrieve()
-                .bodyToMono(SummarizeResponse.class)
+        // 요약 프록시도 모델 서버 동시성 제한/레플리카 풀을 공유 (과부하 시 503)
+        var res = summarizeClient.summarizeRaw(req)
                 .timeout(Duration.ofSeconds(305))
                 .block();
         return ResponseEntity.ok(res);
@@ -2,11 +2,17 @@ package org.likelionhsu.backend.like.repository;
 
 import org.likelionhsu.backend.post.domain.Post;
 import org.likelionhsu.backend.like.domain.PostLike;
+import org.likelionhsu.backend.post.repository.InteractedPostRow;
+import org.likelionhsu.backend.post.repository.PostCount;
 import org.likelionhsu.backend.user.Enitity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -17,4 +23,15 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     long countByPost(Post post);
 
     Page<PostLike> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    /** 마이페이지 목록: 게시글 본문 없이 목록 컬럼만 */
+    @Query(value = "select new org.likelionhsu.backend.post.repository.InteractedPostRow("
+            + "p.id, p.title, p.region, p.category, p.crawledAt, p.views, l.createdAt) "
+            + "from PostLike l join l.post p where l.user = :user order by l.createdAt desc",
+            countQuery = "select count(l) from PostLike l where l.user = :user")
+    Page<InteractedPostRow> findPostRowsByUser(@Param("user") User user, Pageable pageable);
+
+    /** 여러 게시글의 좋아요 수를 한 번에 (좋아요가 없는 게시글은 결과에 없음) */
+    @Query("select l.post.id as postId, count(l) as count from PostLike l where l.post.id in :postIds group by l.post.id")
+    List<PostCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
 }
\ No newline at end of file
@@ -1,18 +1,34 @@
 package org.likelionhsu.backend.naversearch.controller;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.likelionhsu.backend.flask.SummaryPriority;
 import org.likelionhsu.backend.naversearch.NaverSearchItemDto;
 import org.likelionhsu.backend.naversearch.dto.ExploreSummarizeDtos;
 import org.likelionhsu.backend.naversearch.service.ExploreSummarizeService;
+import org.likelionhsu.backend.naversearch.service.ExploreSummaryPrefetcher;
 import org.likelionhsu.backend.naversearch.service.NaverSearchService;
+import org.likelionhsu.backend.naversearch.service.NewsUrls;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/explore")
@@ -20,15 +36,42 @@ public class ExploreController {
 
     private final NaverSearchService naverSearchService;
     private final ExploreSummarizeService exploreSummarizeService;
+    private final ExploreSummaryPrefetcher summaryPrefetcher;
 
+    /** 타입별 검색 대기 상한: 넘으면 그 타입은 빼고 나머지 결과만 반환 */
+    @Value("${naver.search.explore.type-timeout-ms:3000}")
+    private long typeTimeoutMs;
+
+    /** 배치 요약 동시 처리 수 (모델 서버 동시성은 FlaskConcurrencyLimiter 가 따로 제한) */
+    @Value("${explore.summary.batch.concurrency:4}")
+    private int batchConcurrency;
+
+    /** 배치 요약 항목별 시간 상한: 넘으면 TIMEOUT 으로 내려보내고 나머지는 계속 */
+    @Value("${explore.summary.batch.item-timeout-ms:60000}")
+    private long batchItemTimeoutMs;
+
+    @Value("${explore.summary.batch.max-urls:20}")
+    private int batchMaxUrls;
+
+    // 타입들을 동시에 조회 → 지연은 합이 아니라 가장 느린 호출(상한 typeTimeoutMs), 순서는 types 순서 유지
     @GetMapping("/naver")
-    public ResponseEntity<List<NaverSearchItemDto>> explore(@RequestParam("q") String query,
-                                                            @RequestParam(value="types", required=false) List<String> types,
-                                                            @RequestParam(value="display", defaultValue="10") int display) {
+    public Mono<ResponseEntity<List<NaverSearchItemDto>>> explore(@RequestParam("q") String query,
+                                                                  @RequestParam(value="types", required=false) List<String> types,
+                                                                  @RequestParam(value="display", defaultValue="10") int display) {
         if (types == null || types.isEmpty()) types = Arrays.asList("news","blog","cafearticle");
-        List<NaverSearchItemDto> all = new ArrayList<>();
-        for (String t : types) all.addAll(naverSearchService.search(t, query, display));
-        return ResponseEntity.ok(all); // 프론트에서 title/description/link 바로 노출
+        Duration perType = Duration.ofMillis(Math.max(1, typeTimeoutMs));
+        return Flux.fromIterable(new LinkedHashSet<>(types))
+                .flatMapSequential(t -> naverSearchService.searchMono(t, query, display)
+                        .timeout(perType)
+                        .onErrorResume(e -> {
+                            log.warn("[Explore] {} search skipped ({}): {}", t, query, e.toString());
+                            return Mono.just(List.of());
+                        }))
+                .flatMapIterable(list -> list)
+                .distinct(ExploreController::dedupeKey)
+                .collectList()
+                .doOnNext(summaryPrefetcher::offer) // 상위 항목 요약을 백그라운드로 미리 데워 둔다
+                .map(ResponseEntity::ok); // 프론트에서 title/description/link 바로 노출
     }
 
     // ✅ 단건 URL 요약 (탐색 리스트에서 항목 클릭 시 호출)
@@ -43,20 +86,88 @@ public class ExploreController {
         return ResponseEntity.ok(res);
     }
 
-    // ✅ 배치 URL 요약 (선택한 여러 항목을 한꺼번에)
+    // ✅ 배치 URL 요약 (선택한 여러 항목을 한꺼번에) - 기존 JSON 응답: 전부 끝난 뒤 성공 항목만 요청 순서대로
     @PostMapping("/summary/batch")
-    public ResponseEntity<ExploreSummarizeDtos.ItemSummaryListResponse> summarizeBatch(@RequestBody ExploreSummarizeDtos.UrlBatchRequest req) {
+    public Mono<ResponseEntity<ExploreSummarizeDtos.ItemSummaryListResponse>> summarizeBatch(@RequestBody ExploreSummarizeDtos.UrlBatchRequest req) {
+        if (req == null || req.getUrls() == null || req.getUrls().isEmpty())
+            return Mono.just(ResponseEntity.badRequest().build());
+
+        return summarizeBatchFlux(req.getUrls())
+                .collectSortedList(Comparator.comparingInt(ExploreSummarizeDtos.BatchItemResult::getIndex))
+                .map(results -> results.stream()
+                        .map(ExploreSummarizeDtos.BatchItemResult::getItem)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .map(out -> ResponseEntity.ok(ExploreSummarizeDtos.ItemSummaryListResponse.builder().items(out).build()));
+    }
+
+    // ✅ 배치 URL 요약 스트리밍 (기본 NDJSON, Accept: text/event-stream 이면 SSE) - 끝나는 순서대로 한 줄씩, 항목별 status 포함
+    @PostMapping(value = "/summary/batch/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<Flux<ExploreSummarizeDtos.BatchItemResult>> summarizeBatchStream(@RequestBody ExploreSummarizeDtos.UrlBatchRequest req) {
         if (req == null || req.getUrls() == null || req.getUrls().isEmpty())
             return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(summarizeBatchFlux(req.getUrls()));
+    }
+
+    /**
+     * URL 정리(공백/중복 제거, 정규화 URL 기준) → batchConcurrency 개씩 동시 처리, 항목마다 시간 상한.
+     * 요약 호출은 블로킹(본문 수집 + 모델)이라 boundedElastic 에서 실행하고,
+     * 배치 요약은 BATCH 우선순위: 단건 클릭(INTERACTIVE)보다 뒤에서 모델 서버 슬롯을 받는다.
+     * 시간 상한을 넘긴 항목은 TIMEOUT 을 먼저 내려보내되 블로킹 호출이 실제로 끝날 때까지 동시 처리 슬롯을 쥐고 있는다
+     * (취소해도 블로킹 호출은 멈추지 않으므로, 슬롯을 바로 넘기면 실제 동시 실행 수가 batchConcurrency 를 넘는다).
+     * 모든 URL 의 결과가 나오면 스트림을 끝내고, 남은 호출은 뒤에서 마저 끝난다
+     */
+    private Flux<ExploreSummarizeDtos.BatchItemResult> summarizeBatchFlux(List<String> urls) {
+        Map<String, String> unique = new LinkedHashMap<>(); // 정규화 URL → 처음 요청된 URL
+        for (String u : urls) {
+            String url = StringUtils.trimToNull(u);
+            if (url == null) continue;
+            unique.putIfAbsent(Objects.requireNonNullElse(NewsUrls.canonical(url), url), url);
+        }
+        List<String> targets = unique.values().stream().limit(Math.max(1, batchMaxUrls)).toList();
+        Duration perItem = Duration.ofMillis(Math.max(1, batchItemTimeoutMs));
+
+        return Flux.range(0, targets.size())
+                .flatMap(i -> {
+                    String url = targets.get(i);
+                    Mono<ExploreSummarizeService.Outcome> done = summarizeDetached(url);
+                    return Flux.concat(
+                                    done.timeout(perItem, Mono.fromSupplier(() -> new ExploreSummarizeService.Outcome(
+                                            ExploreSummarizeDtos.ItemStatus.TIMEOUT, null))),
+                                    done.then(Mono.<ExploreSummarizeService.Outcome>empty())) // 슬롯은 실제 완료까지
+                            .map(out -> ExploreSummarizeDtos.BatchItemResult.builder()
+                                    .index(i)
+                                    .url(url)
+                                    .status(out.status())
+                                    .item(out.item())
+                                    .build());
+                }, Math.max(1, batchConcurrency))
+                .take(targets.size());
+    }
 
-        List<ExploreSummarizeDtos.ItemSummaryResponse> out = req.getUrls().stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(exploreSummarizeService::summarizeUrl)
-                .filter(Objects::nonNull)
-                .toList();
+    /** 요약 호출을 시작하고 결과를 돌려준다. 구독을 취소해도(시간 초과, 연결 끊김) 호출 자체는 끝까지 간다 */
+    private Mono<ExploreSummarizeService.Outcome> summarizeDetached(String url) {
+        Sinks.One<ExploreSummarizeService.Outcome> done = Sinks.one();
+        Mono.fromCallable(() -> SummaryPriority.with(SummaryPriority.BATCH,
+                        () -> exploreSummarizeService.summarizeWithStatus(url)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[Explore] batch item failed {}: {}", url, e.toString());
+                    return Mono.just(new ExploreSummarizeService.Outcome(ExploreSummarizeDtos.ItemStatus.ERROR, null));
+                })
+                .subscribe(done::tryEmitValue);
+        return done.asMono();
+    }
+
+    /** 요약 프리페치 현황 (이 노드 기준) */
+    @GetMapping("/summary/prefetch/stats")
+    public ResponseEntity<ExploreSummaryPrefetcher.PrefetchStats> prefetchStats() {
+        return ResponseEntity.ok(summaryPrefetcher.snapshot());
+    }
 
-        return ResponseEntity.ok(ExploreSummarizeDtos.ItemSummaryListResponse.builder().items(out).build());
+    /** 타입 간 중복 제거 기준: 원문 링크 우선, 없으면 네이버 링크 */
+    private static String dedupeKey(NaverSearchItemDto it) {
+        String link = StringUtils.trimToEmpty(StringUtils.defaultIfBlank(it.getOriginallink(), it.getLink()));
+        return link.isEmpty() ? it.getType() + "::" + it.getTitle() : link;
     }
-}
\ No newline at end of file
+}
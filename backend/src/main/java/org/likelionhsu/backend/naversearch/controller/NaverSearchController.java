@@ -1,7 +1,8 @@
 package org.likelionhsu.backend.naversearch.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.likelionhsu.backend.naversearch.dto.DataLabTrendResponse;
+import org.likelionhsu.backend.naversearch.service.NaverQuotaManager;
 import org.likelionhsu.backend.naversearch.service.NaverSearchService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,22 +16,29 @@ import java.util.Map;
 public class NaverSearchController {
 
     private final NaverSearchService naverSearchService;
+    private final NaverQuotaManager naverQuotaManager;
 
     @PostMapping("/daily-trend")
-    public ResponseEntity<JsonNode> getDailyTrends(
+    public ResponseEntity<DataLabTrendResponse> getDailyTrends(
             @RequestParam String startDate,
             @RequestParam String endDate,
             @RequestBody List<Map<String, Object>> keywordGroups) {
-        JsonNode trends = naverSearchService.getDailyTrends(startDate, endDate, keywordGroups);
+        DataLabTrendResponse trends = naverSearchService.getDailyTrends(startDate, endDate, keywordGroups);
         return ResponseEntity.ok(trends);
     }
 
     @PostMapping("/weekly-trend")
-    public ResponseEntity<JsonNode> getWeeklyTrends(
+    public ResponseEntity<DataLabTrendResponse> getWeeklyTrends(
             @RequestParam String startDate,
             @RequestParam String endDate,
             @RequestBody List<Map<String, Object>> keywordGroups) {
-        JsonNode trends = naverSearchService.getWeeklyTrends(startDate, endDate, keywordGroups);
+        DataLabTrendResponse trends = naverSearchService.getWeeklyTrends(startDate, endDate, keywordGroups);
         return ResponseEntity.ok(trends);
     }
-}
\ No newline at end of file
+
+    /** 네이버 API 쿼터 현황 (오늘 사용량/잔여, 전 노드 합산) */
+    @GetMapping("/quota")
+    public ResponseEntity<Map<NaverQuotaManager.Api, NaverQuotaManager.QuotaStats>> getQuota() {
+        return ResponseEntity.ok(naverQuotaManager.snapshot());
+    }
+}
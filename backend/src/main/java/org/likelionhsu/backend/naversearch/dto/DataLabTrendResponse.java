@@ -0,0 +1,23 @@
+package org.likelionhsu.backend.naversearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/** 네이버 DataLab 검색어 트렌드 응답 (저장소/병합 결과도 같은 형식으로 내려감) */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record DataLabTrendResponse(
+        String startDate,
+        String endDate,
+        String timeUnit,
+        List<Result> results
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Result(String title, List<String> keywords, List<Point> data) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Point(String period, double ratio) {
+    }
+}
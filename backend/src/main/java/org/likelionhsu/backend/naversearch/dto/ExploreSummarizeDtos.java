@@ -33,4 +33,28 @@ public class ExploreSummarizeDtos {
     public static class ItemSummaryListResponse {
         private List<ItemSummaryResponse> items;
     }
+
+    /** 배치 요약 항목별 처리 결과 */
+    public enum ItemStatus {
+        OK,             // 요약 성공
+        BLOCKED,        // 차단 도메인
+        FETCH_FAILED,   // 본문 수집 실패/빈 본문
+        QUALITY_FAIL,   // 품질 게이트 미달
+        EMPTY,          // 모델 요약이 비어 있음
+        TIMEOUT,        // 항목별 시간 상한 초과
+        OVERLOADED,     // 모델 서버 과부하
+        ERROR
+    }
+
+    /** 배치 스트리밍(NDJSON/SSE) 한 줄: 끝나는 순서대로 내려가므로 index 로 요청 순서를 복원 */
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchItemResult {
+        private int index;
+        private String url;
+        private ItemStatus status;
+        private ItemSummaryResponse item;
+    }
 }
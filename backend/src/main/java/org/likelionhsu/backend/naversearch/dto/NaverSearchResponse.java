@@ -0,0 +1,16 @@
+package org.likelionhsu.backend.naversearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.likelionhsu.backend.naversearch.NaverSearchItemDto;
+
+import java.util.List;
+
+/** 네이버 검색 API 응답 (WebClient 가 응답 버퍼에서 바로 디코딩) */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NaverSearchResponse(
+        Integer total,
+        Integer start,
+        Integer display,
+        List<NaverSearchItemDto> items
+) {
+}
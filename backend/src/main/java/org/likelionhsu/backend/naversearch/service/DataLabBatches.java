@@ -0,0 +1,130 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.naversearch.dto.DataLabTrendResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DataLab 키워드 그룹 분할/병합
+ *  - DataLab 은 요청당 키워드 그룹 수가 제한되어 있어, 첫 그룹을 기준(anchor)으로 모든 청크에 넣고 나머지를 나눠 담는다
+ *  - ratio 는 청크마다 "청크 내 최대값 = 100" 상대값이므로, 공통 기간의 anchor 합 비율로 첫 청크 척도에 맞춘 뒤
+ *    전체 최대값 100 으로 다시 정규화한다
+ *  - 응답 형식은 단일 호출과 같고, results 순서는 요청한 그룹 순서를 따른다
+ */
+@Slf4j
+final class DataLabBatches {
+
+    private DataLabBatches() {
+    }
+
+    /** anchor(첫 그룹) + 나머지 최대 (maxGroups - 1)개씩 */
+    static List<List<Map<String, Object>>> split(List<Map<String, Object>> groups, int maxGroups) {
+        if (groups.size() <= maxGroups) return List.of(groups);
+
+        Map<String, Object> anchor = groups.get(0);
+        List<Map<String, Object>> rest = groups.subList(1, groups.size());
+        int perChunk = Math.max(1, maxGroups - 1);
+
+        List<List<Map<String, Object>>> chunks = new ArrayList<>();
+        for (int i = 0; i < rest.size(); i += perChunk) {
+            List<Map<String, Object>> chunk = new ArrayList<>(perChunk + 1);
+            chunk.add(anchor);
+            chunk.addAll(rest.subList(i, Math.min(rest.size(), i + perChunk)));
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /** 청크 응답들을 anchor 기준으로 한 척도에 합친다. responses 는 split 결과와 같은 순서 */
+    static DataLabTrendResponse merge(List<DataLabTrendResponse> responses, List<Map<String, Object>> groups) {
+        if (responses.size() == 1) return responses.get(0);
+
+        String anchorTitle = Objects.toString(groups.get(0).get("groupName"), "");
+        DataLabTrendResponse first = responses.get(0);
+        Map<String, Double> reference = periods(find(first, anchorTitle));
+
+        // title → (period → 첫 청크 척도 ratio)
+        Map<String, List<String>> keywords = new HashMap<>();
+        Map<String, LinkedHashMap<String, Double>> series = new HashMap<>();
+        for (int i = 0; i < responses.size(); i++) {
+            DataLabTrendResponse res = responses.get(i);
+            double factor = i == 0 ? 1.0 : factor(reference, periods(find(res, anchorTitle)), anchorTitle, i);
+            for (DataLabTrendResponse.Result r : results(res)) {
+                if (i > 0 && anchorTitle.equals(r.title())) continue;
+                LinkedHashMap<String, Double> pts = new LinkedHashMap<>();
+                for (DataLabTrendResponse.Point p : points(r)) {
+                    pts.put(p.period(), p.ratio() * factor);
+                }
+                series.putIfAbsent(r.title(), pts);
+                keywords.putIfAbsent(r.title(), r.keywords());
+            }
+        }
+
+        double max = series.values().stream()
+                .flatMap(pts -> pts.values().stream())
+                .mapToDouble(Double::doubleValue)
+                .max().orElse(0);
+        double scale = max > 0 ? 100.0 / max : 0;
+
+        List<DataLabTrendResponse.Result> merged = new ArrayList<>();
+        for (Map<String, Object> g : groups) {
+            String title = Objects.toString(g.get("groupName"), "");
+            LinkedHashMap<String, Double> pts = series.get(title);
+            if (pts == null) continue;
+            List<DataLabTrendResponse.Point> data = new ArrayList<>(pts.size());
+            pts.forEach((period, ratio) -> data.add(new DataLabTrendResponse.Point(period, round(ratio * scale))));
+            merged.add(new DataLabTrendResponse.Result(title, keywords.get(title), data));
+        }
+        return new DataLabTrendResponse(first.startDate(), first.endDate(), first.timeUnit(), merged);
+    }
+
+    static double round(double ratio) {
+        return Math.round(ratio * 100_000d) / 100_000d;
+    }
+
+    /** 공통 기간의 anchor 합 비율. anchor 에 신호가 없으면 척도를 맞출 수 없어 그대로 둔다 */
+    private static double factor(Map<String, Double> reference, Map<String, Double> chunk, String anchorTitle, int index) {
+        double refSum = 0, chunkSum = 0;
+        for (Map.Entry<String, Double> e : chunk.entrySet()) {
+            Double ref = reference.get(e.getKey());
+            if (ref == null) continue;
+            refSum += ref;
+            chunkSum += e.getValue();
+        }
+        if (refSum <= 0 || chunkSum <= 0) {
+            log.warn("[datalab] anchor '{}' has no signal in chunk {}, merged unscaled", anchorTitle, index);
+            return 1.0;
+        }
+        return refSum / chunkSum;
+    }
+
+    private static DataLabTrendResponse.Result find(DataLabTrendResponse response, String title) {
+        for (DataLabTrendResponse.Result r : results(response)) {
+            if (title.equals(r.title())) return r;
+        }
+        return null;
+    }
+
+    private static Map<String, Double> periods(DataLabTrendResponse.Result result) {
+        Map<String, Double> out = new HashMap<>();
+        if (result == null) return out;
+        for (DataLabTrendResponse.Point p : points(result)) {
+            out.put(p.period(), p.ratio());
+        }
+        return out;
+    }
+
+    static List<DataLabTrendResponse.Result> results(DataLabTrendResponse response) {
+        return response == null || response.results() == null ? List.of() : response.results();
+    }
+
+    static List<DataLabTrendResponse.Point> points(DataLabTrendResponse.Result result) {
+        return result.data() == null ? List.of() : result.data();
+    }
+}
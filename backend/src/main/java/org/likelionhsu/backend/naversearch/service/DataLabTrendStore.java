@@ -0,0 +1,272 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.likelionhsu.backend.naversearch.dto.DataLabTrendResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * DataLab 트렌드 시계열 로컬 저장소 (Redis)
+ *  - 키: (timeUnit, 키워드 그룹 집합) → 그룹 순서/키워드 순서가 달라도 같은 시계열
+ *  - 요청 구간 중 저장되지 않은 앞/뒤 구간만 받아서 합친다. 최근 overlap 구간은 값이 바뀔 수 있어 다시 받는다
+ *  - DataLab ratio 는 "요청 구간 최대값 = 100" 상대값이라, 새로 받은 구간은 겹치는 기간의 합 비율로 저장 척도에 맞추고
+ *    응답할 때 요청 구간 기준으로 다시 100 정규화한다
+ *  - 저장소 오류/형식 불일치 시에는 전체 구간을 그대로 호출 (기존 동작)
+ */
+@Slf4j
+@Component
+public class DataLabTrendStore {
+
+    private static final String KEY_PREFIX = "datalab:series:";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /** 실제 DataLab 호출 (timeUnit, startDate, endDate, keywordGroups) */
+    @FunctionalInterface
+    public interface Fetcher {
+        DataLabTrendResponse fetch(String timeUnit, String startDate, String endDate, List<Map<String, Object>> keywordGroups);
+    }
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+
+    @Value("${naver.datalab.store.ttl-days:35}")
+    private long ttlDays;
+
+    /** 최근 구간(오늘/이번 주)을 다시 받기 전 최소 간격 */
+    @Value("${naver.datalab.store.fresh-minutes:60}")
+    private long freshMinutes;
+
+    public DataLabTrendStore(StringRedisTemplate redis, ObjectMapper objectMapper) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+    }
+
+    public DataLabTrendResponse trends(String timeUnit, String startDate, String endDate,
+                           List<Map<String, Object>> keywordGroups, Fetcher fetcher) {
+        LocalDate start, end;
+        List<Group> groups;
+        try {
+            start = LocalDate.parse(startDate);
+            end = LocalDate.parse(endDate);
+            groups = parseGroups(keywordGroups);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return fetcher.fetch(timeUnit, startDate, endDate, keywordGroups); // 검증은 DataLab 에 맡긴다
+        }
+        if (end.isBefore(start) || groups.isEmpty()) {
+            return fetcher.fetch(timeUnit, startDate, endDate, keywordGroups);
+        }
+
+        String key = key(timeUnit, groups);
+        Series series = load(key);
+        try {
+            series = (series == null)
+                    ? Series.from(fetcher.fetch(timeUnit, startDate, endDate, keywordGroups), start, end)
+                    : extend(series, timeUnit, start, end, keywordGroups, fetcher);
+        } catch (IncompatibleSeriesException e) {
+            log.info("[datalab] {} rescale failed ({}), refetching full range", key, e.getMessage());
+            series = Series.from(fetcher.fetch(timeUnit, startDate, endDate, keywordGroups), start, end);
+        }
+        save(key, series);
+        return render(series, timeUnit, start, end, groups);
+    }
+
+    /* ------------------------- incremental fetch ------------------------- */
+
+    private Series extend(Series s, String timeUnit, LocalDate start, LocalDate end,
+                          List<Map<String, Object>> keywordGroups, Fetcher fetcher) {
+        int overlapDays = overlapDays(timeUnit);
+        LocalDate coveredStart = LocalDate.parse(s.getCoveredStart());
+        LocalDate coveredEnd = LocalDate.parse(s.getCoveredEnd());
+
+        // 앞쪽 누락 구간: [start, coveredStart + overlap]
+        if (start.isBefore(coveredStart)) {
+            LocalDate to = min(coveredStart.plusDays(overlapDays), coveredEnd);
+            merge(s, Series.from(fetcher.fetch(timeUnit, start.toString(), to.toString(), keywordGroups), start, to));
+        }
+
+        // 뒤쪽 누락 구간 또는 아직 확정되지 않은 최근 구간: [coveredEnd - overlap, end]
+        LocalDate today = LocalDate.now(KST);
+        boolean missingTail = end.isAfter(coveredEnd);
+        boolean recentStale = !end.isBefore(today.minusDays(overlapDays))
+                && System.currentTimeMillis() - s.getFetchedAt() > Duration.ofMinutes(freshMinutes).toMillis();
+        if (missingTail || recentStale) {
+            LocalDate from = max(alignToPeriod(timeUnit, coveredEnd.minusDays(overlapDays)), coveredStart);
+            LocalDate to = max(end, coveredEnd);
+            merge(s, Series.from(fetcher.fetch(timeUnit, from.toString(), to.toString(), keywordGroups), from, to));
+            s.setFetchedAt(System.currentTimeMillis());
+        }
+        return s;
+    }
+
+    /** 새 구간을 저장 척도로 맞춘 뒤 덮어쓴다 (겹치는 기간 합의 비율로 스케일) */
+    private static void merge(Series stored, Series fresh) {
+        double storedSum = 0, freshSum = 0;
+        for (Map.Entry<String, TreeMap<String, Double>> e : fresh.getPoints().entrySet()) {
+            TreeMap<String, Double> old = stored.getPoints().get(e.getKey());
+            if (old == null) throw new IncompatibleSeriesException("group mismatch: " + e.getKey());
+            for (Map.Entry<String, Double> p : e.getValue().entrySet()) {
+                Double o = old.get(p.getKey());
+                if (o == null) continue;
+                storedSum += o;
+                freshSum += p.getValue();
+            }
+        }
+        if (storedSum <= 0 || freshSum <= 0) throw new IncompatibleSeriesException("no overlapping signal");
+
+        double factor = storedSum / freshSum;
+        fresh.getPoints().forEach((group, pts) ->
+                pts.forEach((period, ratio) -> stored.getPoints().get(group).put(period, ratio * factor)));
+        stored.setCoveredStart(min(LocalDate.parse(stored.getCoveredStart()), LocalDate.parse(fresh.getCoveredStart())).toString());
+        stored.setCoveredEnd(max(LocalDate.parse(stored.getCoveredEnd()), LocalDate.parse(fresh.getCoveredEnd())).toString());
+    }
+
+    /** 요청 구간만 잘라 DataLab 응답 형식으로, 구간 최대값 100 기준으로 재정규화 */
+    private static DataLabTrendResponse render(Series s, String timeUnit, LocalDate start, LocalDate end, List<Group> groups) {
+        String from = start.toString(), to = end.toString();
+        double max = s.getPoints().values().stream()
+                .flatMap(pts -> pts.subMap(from, true, to, true).values().stream())
+                .mapToDouble(Double::doubleValue)
+                .max().orElse(0);
+        double scale = max > 0 ? 100.0 / max : 0;
+
+        List<DataLabTrendResponse.Result> results = new ArrayList<>(groups.size());
+        for (Group g : groups) {
+            List<DataLabTrendResponse.Point> data = new ArrayList<>();
+            s.getPoints().getOrDefault(g.name(), new TreeMap<>())
+                    .subMap(from, true, to, true)
+                    .forEach((period, ratio) -> data.add(new DataLabTrendResponse.Point(period, DataLabBatches.round(ratio * scale))));
+            results.add(new DataLabTrendResponse.Result(g.name(), g.keywords(), data));
+        }
+        return new DataLabTrendResponse(from, to, timeUnit, results);
+    }
+
+    /* ------------------------- storage ------------------------- */
+
+    private Series load(String key) {
+        try {
+            String json = redis.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, Series.class);
+        } catch (DataAccessException e) {
+            log.debug("[datalab] store read failed {}: {}", key, e.toString());
+            return null;
+        } catch (Exception e) {
+            log.warn("[datalab] stored series unreadable {}: {}", key, e.toString());
+            return null;
+        }
+    }
+
+    private void save(String key, Series s) {
+        try {
+            redis.opsForValue().set(key, objectMapper.writeValueAsString(s), Duration.ofDays(Math.max(1, ttlDays)));
+        } catch (Exception e) {
+            log.debug("[datalab] store write failed {}: {}", key, e.toString());
+        }
+    }
+
+    private static String key(String timeUnit, List<Group> groups) {
+        String signature = groups.stream()
+                .map(g -> g.name() + "=" + String.join(",", g.keywords().stream().sorted().toList()))
+                .sorted()
+                .collect(Collectors.joining("|"));
+        return KEY_PREFIX + timeUnit + ":" + DigestUtils.sha256Hex(signature).substring(0, 32);
+    }
+
+    /* ------------------------- helpers ------------------------- */
+
+    @SuppressWarnings("unchecked")
+    private static List<Group> parseGroups(List<Map<String, Object>> keywordGroups) {
+        if (keywordGroups == null) throw new IllegalArgumentException("keywordGroups");
+        List<Group> out = new ArrayList<>();
+        for (Map<String, Object> g : keywordGroups) {
+            Object name = g.get("groupName");
+            Object kws = g.get("keywords");
+            if (!(name instanceof String n) || !(kws instanceof Collection<?> c)) {
+                throw new IllegalArgumentException("keywordGroup");
+            }
+            out.add(new Group(n, ((Collection<Object>) c).stream().map(Objects::toString).toList()));
+        }
+        return out;
+    }
+
+    /** 재조회 겹침 구간: 일 단위는 7일, 주 단위는 4주, 월 단위는 2개월 */
+    private static int overlapDays(String timeUnit) {
+        return switch (timeUnit) {
+            case "week" -> 28;
+            case "month" -> 62;
+            default -> 7;
+        };
+    }
+
+    /** 주/월 단위는 구간 시작이 기간 중간이면 첫 값이 부분 합계가 되므로 기간 시작일로 맞춘다 */
+    private static LocalDate alignToPeriod(String timeUnit, LocalDate d) {
+        return switch (timeUnit) {
+            case "week" -> d.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case "month" -> d.withDayOfMonth(1);
+            default -> d;
+        };
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record Group(String name, List<String> keywords) {}
+
+    private static class IncompatibleSeriesException extends RuntimeException {
+        IncompatibleSeriesException(String message) {
+            super(message);
+        }
+    }
+
+    /** 저장 형식: 그룹명 → (period → 저장 척도 ratio) */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class Series {
+        private Map<String, TreeMap<String, Double>> points = new LinkedHashMap<>();
+        private String coveredStart;
+        private String coveredEnd;
+        private long fetchedAt;
+
+        static Series from(DataLabTrendResponse response, LocalDate start, LocalDate end) {
+            Series s = new Series();
+            for (DataLabTrendResponse.Result r : DataLabBatches.results(response)) {
+                TreeMap<String, Double> pts = new TreeMap<>();
+                for (DataLabTrendResponse.Point p : DataLabBatches.points(r)) {
+                    pts.put(p.period(), p.ratio());
+                }
+                s.points.put(r.title(), pts);
+            }
+            s.coveredStart = start.toString();
+            s.coveredEnd = end.toString();
+            s.fetchedAt = System.currentTimeMillis();
+            return s;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.common.config.NaverSearchProperties;
+import org.likelionhsu.backend.common.exception.customexception.NaverQuotaExceededException;
+import org.likelionhsu.backend.naversearch.NaverSearchItemDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 네이버 검색 결과(discovery) stale-while-revalidate 캐시
+ *  - age < refresh-after         : 그대로 반환
+ *  - refresh-after ≤ age < ttl   : 기존 값 반환 + 비동기 갱신(키당 1건)
+ *  - ttl ≤ age < ttl + grace     : 동기 갱신 시도, 실패/빈 결과면 기존 값 반환 (최근 실패 직후엔 바로 기존 값)
+ *  - 그 이상/없음                 : 동기 로드 (같은 노드의 동시 요청은 한 번만 호출)
+ * 최근 사용된 키와 naver.search.queries(인기 질의)는 주기적으로 미리 갱신해서 cold path 를 타지 않게 한다.
+ */
+@Slf4j
+@Component
+public class DiscoveryCache {
+
+    private static final String CACHE_NAME = "discovery";
+
+    private final Cache cache;
+    private final ThreadPoolTaskExecutor refreshExecutor;
+    private final long refreshAfterMs;
+    private final long ttlMs;
+    private final long graceMs;
+    private final long failureBackoffMs;
+
+    /** 노드 내 동시 로드/갱신 합치기 */
+    private final Map<DiscoveryKey, CompletableFuture<List<NaverSearchItemDto>>> inFlight = new ConcurrentHashMap<>();
+    /** 최근 접근 시각 (refresh-ahead 대상) */
+    private final Map<DiscoveryKey, Long> lastAccess = new ConcurrentHashMap<>();
+    /** 최근 갱신 실패 시각 */
+    private final Map<DiscoveryKey, Long> lastFailure = new ConcurrentHashMap<>();
+    /** 접근이 없어도 항상 따뜻하게 유지할 키 */
+    private final Set<DiscoveryKey> pinned;
+
+    public DiscoveryCache(@Qualifier("redisCacheManager") CacheManager cacheManager,
+                          @Qualifier("discoveryRefreshExecutor") ThreadPoolTaskExecutor refreshExecutor,
+                          NaverSearchProperties searchProperties,
+                          QueryNormalizer queryNormalizer,
+                          @Value("${naver.search.cache.refresh-after-seconds:480}") long refreshAfterSeconds,
+                          @Value("${naver.search.cache.ttl-seconds:600}") long ttlSeconds,
+                          @Value("${naver.search.cache.grace-seconds:1800}") long graceSeconds,
+                          @Value("${naver.search.cache.failure-backoff-seconds:30}") long failureBackoffSeconds,
+                          @Value("${naver.search.cache.warm-types:news,blog,cafearticle}") List<String> warmTypes,
+                          @Value("${naver.search.cache.warm-display:10}") int warmDisplay) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.refreshExecutor = refreshExecutor;
+        this.ttlMs = Math.max(1, ttlSeconds) * 1000;
+        this.refreshAfterMs = Math.min(this.ttlMs, Math.max(1, refreshAfterSeconds) * 1000);
+        this.graceMs = Math.max(0, graceSeconds) * 1000;
+        this.failureBackoffMs = Math.max(0, failureBackoffSeconds) * 1000;
+
+        List<String> queries = searchProperties.getQueries() == null ? List.of() : searchProperties.getQueries();
+        this.pinned = queries.stream()
+                .map(queryNormalizer::normalize)
+                .filter(q -> !q.isEmpty())
+                .flatMap(q -> warmTypes.stream().map(t -> DiscoveryKey.of(t.trim(), q, warmDisplay)))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public List<NaverSearchItemDto> get(DiscoveryKey key, NaverQuotaPriority priority, Loader loader) {
+        return getAsync(key, priority, loader).block();
+    }
+
+    /** 캐시 조회는 boundedElastic 에서, 로드는 loader(논블로킹 Mono)로 진행 */
+    public Mono<List<NaverSearchItemDto>> getAsync(DiscoveryKey key, NaverQuotaPriority priority, Loader loader) {
+        return Mono.fromCallable(() -> Optional.ofNullable(read(key)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(entry -> resolve(key, entry.orElse(null), priority, loader));
+    }
+
+    /** 사용자 요청이 직접 기다리는 로드만 호출자 우선순위, 미리 갱신은 항상 WARMUP (쿼터가 줄면 이전 값 제공) */
+    private Mono<List<NaverSearchItemDto>> resolve(DiscoveryKey key, Entry entry,
+                                                   NaverQuotaPriority priority, Loader loader) {
+        long now = System.currentTimeMillis();
+        lastAccess.put(key, now);
+        if (entry == null) return load(key, priority, loader);
+
+        long age = now - entry.getFetchedAt();
+        if (age < refreshAfterMs) return Mono.just(entry.getItems());
+        if (age < ttlMs) {
+            refreshAsync(key, loader);
+            return Mono.just(entry.getItems());
+        }
+        if (age < ttlMs + graceMs) {
+            Long failedAt = lastFailure.get(key);
+            if (failedAt != null && now - failedAt < failureBackoffMs) {
+                refreshAsync(key, loader);
+                return Mono.just(entry.getItems());
+            }
+            return load(key, priority, loader)
+                    .map(fresh -> fresh.isEmpty() ? entry.getItems() : fresh)
+                    .onErrorResume(e -> {
+                        log.warn("[discovery] refresh failed, serving stale {} (age={}s): {}", key, age / 1000, e.toString());
+                        return Mono.just(entry.getItems());
+                    });
+        }
+        return load(key, priority, loader);
+    }
+
+    /** 최근 사용 키 + 인기 질의 중 갱신 시점이 된 것들을 비동기로 갱신 */
+    public void refreshDue(Loader loader) {
+        long now = System.currentTimeMillis();
+        lastAccess.entrySet().removeIf(e -> now - e.getValue() > ttlMs + graceMs && !pinned.contains(e.getKey()));
+        lastFailure.entrySet().removeIf(e -> now - e.getValue() > ttlMs + graceMs);
+
+        Set<DiscoveryKey> candidates = new HashSet<>(pinned);
+        lastAccess.forEach((k, at) -> {
+            if (now - at < ttlMs) candidates.add(k); // ttl 안에 한 번이라도 쓰인 키만
+        });
+        for (DiscoveryKey key : candidates) {
+            Entry entry = read(key);
+            if (entry == null || now - entry.getFetchedAt() >= refreshAfterMs) refreshAsync(key, loader);
+        }
+    }
+
+    /* ------------------------- internals ------------------------- */
+
+    /** 갱신 동시 실행 수는 refreshExecutor 크기로 제한 */
+    private void refreshAsync(DiscoveryKey key, Loader loader) {
+        if (inFlight.containsKey(key)) return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, NaverQuotaPriority.WARMUP, loader).block();
+                } catch (RuntimeException e) {
+                    log.warn("[discovery] async refresh failed {}: {}", key, e.toString());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("[discovery] refresh queue full, skip {}", key);
+        }
+    }
+
+    /**
+     * 키당 한 번만 실제 호출하고, 결과가 비어 있지 않으면 캐시에 기록.
+     * 호출자가 먼저 포기(타임아웃)해도 로드는 끝까지 진행되어 다음 요청이 캐시를 받는다.
+     */
+    private Mono<List<NaverSearchItemDto>> load(DiscoveryKey key, NaverQuotaPriority priority, Loader loader) {
+        return Mono.defer(() -> {
+            CompletableFuture<List<NaverSearchItemDto>> mine = new CompletableFuture<>();
+            CompletableFuture<List<NaverSearchItemDto>> existing = inFlight.putIfAbsent(key, mine);
+            if (existing != null) {
+                // 합류한 로드가 낮은 우선순위라 쿼터에 막혔으면, 내 우선순위로 다시 시도
+                return Mono.fromFuture(existing, true)
+                        .onErrorResume(NaverQuotaExceededException.class, e -> priority == NaverQuotaPriority.WARMUP
+                                ? Mono.error(e) : load(key, priority, loader));
+            }
+
+            loader.load(key, priority)
+                    .defaultIfEmpty(List.of())
+                    .publishOn(Schedulers.boundedElastic()) // 캐시 쓰기는 블로킹
+                    .subscribe(items -> {
+                        if (!items.isEmpty()) {
+                            write(key, items);
+                            lastFailure.remove(key);
+                        }
+                        inFlight.remove(key, mine);
+                        mine.complete(items);
+                    }, err -> {
+                        lastFailure.put(key, System.currentTimeMillis());
+                        inFlight.remove(key, mine);
+                        mine.completeExceptionally(err);
+                    });
+            return Mono.fromFuture(mine, true);
+        });
+    }
+
+    private Entry read(DiscoveryKey key) {
+        try {
+            return cache.get(key.cacheKey(), Entry.class);
+        } catch (RuntimeException e) {
+            // 이전 형식(리스트 그대로 저장)의 값이거나 캐시 장애 → miss 로 취급
+            log.debug("[discovery] cache read failed {}: {}", key, e.toString());
+            return null;
+        }
+    }
+
+    private void write(DiscoveryKey key, List<NaverSearchItemDto> items) {
+        try {
+            cache.put(key.cacheKey(), new Entry(new ArrayList<>(items), System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.warn("[discovery] cache write failed {}: {}", key, e.toString());
+        }
+    }
+
+    /* ------------------------- types ------------------------- */
+
+    /** 네이버 검색 호출 (논블로킹) */
+    @FunctionalInterface
+    public interface Loader {
+        Mono<List<NaverSearchItemDto>> load(DiscoveryKey key, NaverQuotaPriority priority);
+    }
+
+    /**
+     * query 는 실제 검색어(QueryNormalizer.text), canonical 은 캐시 키(QueryNormalizer.key).
+     * 동일성은 (type, canonical, display) 기준이라 표기만 다른 질의는 같은 항목을 공유한다.
+     */
+    public record DiscoveryKey(String type, String query, String canonical, int display) {
+
+        public static DiscoveryKey of(String type, QueryNormalizer.NormalizedQuery q, int display) {
+            return new DiscoveryKey(type, q.text(), q.key(), display);
+        }
+
+        String cacheKey() {
+            return type + "::" + canonical + "::" + display;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DiscoveryKey k
+                    && display == k.display && type.equals(k.type) && canonical.equals(k.canonical);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, canonical, display);
+        }
+    }
+
+    /** 캐시에 저장되는 값: 결과 + 가져온 시각(epoch ms) */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private List<NaverSearchItemDto> items;
+        private long fetchedAt;
+    }
+}
@@ -1,39 +1,99 @@
 package org.likelionhsu.backend.naversearch.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.likelionhsu.backend.ai.filter.ContentQualityGate;
 import org.likelionhsu.backend.ai.filter.SourceDomainPolicy;
 import org.likelionhsu.backend.ai.service.ContentFetcher;
 import org.likelionhsu.backend.ai.service.PerDocSummarizer;
 import org.likelionhsu.backend.ai.util.ArticleCleaner;
+import org.likelionhsu.backend.common.exception.customexception.FlaskOverloadedException;
+import org.likelionhsu.backend.naversearch.dto.ExploreSummarizeDtos.ItemStatus;
 import org.likelionhsu.backend.naversearch.dto.ExploreSummarizeDtos.ItemSummaryResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class ExploreSummarizeService {
 
+    private static final String CACHE_NAME = "summary";
+    private static final String CACHE_KEY_PREFIX = "explore:url:";
+
     private final ContentFetcher contentFetcher;     // 이미 있음
     private final PerDocSummarizer perDocSummarizer; // 이미 있음
+    private final CacheManager cacheManager;         // summarizeWithStatus 가 summarizeUrl 과 같은 캐시를 쓰도록
+
+    public ExploreSummarizeService(ContentFetcher contentFetcher,
+                                   PerDocSummarizer perDocSummarizer,
+                                   @Qualifier("redisCacheManager") CacheManager cacheManager) {
+        this.contentFetcher = contentFetcher;
+        this.perDocSummarizer = perDocSummarizer;
+        this.cacheManager = cacheManager;
+    }
 
-    /** 단건 URL 요약 (본문은 절대 반환하지 않음) */
+    /**
+     * 단건 URL 요약 (본문은 절대 반환하지 않음, 모델 서버 과부하 시 FlaskOverloadedException)
+     * sync 경로라 stampede 락이 계산 후 항상 풀린다. 요약이 없는 결과는 null 이라 캐시되지 않는다 (sync 는 unless 불가)
+     */
     @Cacheable(cacheNames = "summary", cacheManager = "redisCacheManager",
-            key = "'explore:url:' + #url",
-            unless = "#result == null || #result.getSummary() == null || #result.getSummary().isBlank()")
+            key = "'explore:url:' + #url", sync = true)
     public ItemSummaryResponse summarizeUrl(String url) {
-        if (url == null || SourceDomainPolicy.isHardBlocked(url)) return null;
+        return evaluate(url).item();
+    }
+
+    /** summarizeUrl 캐시에 (만료 전) 요약이 있는지. 락 없는 조회라 재계산 락을 잡지 않는다 (프리페치 중복 방지용) */
+    public boolean isCached(String url) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (url == null || cache == null) return false;
+        ItemSummaryResponse cached = cache.get(CACHE_KEY_PREFIX + url, ItemSummaryResponse.class);
+        return cached != null && StringUtils.isNotBlank(cached.getSummary());
+    }
+
+    /**
+     * 배치용: summarizeUrl 과 같은 캐시를 쓰면서 실패 사유(status)까지 돌려준다.
+     * 과부하는 예외 대신 OVERLOADED 로 반환 (배치의 다른 항목은 계속 진행)
+     */
+    public Outcome summarizeWithStatus(String url) {
+        if (url == null) return Outcome.of(ItemStatus.ERROR);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        try {
+            if (cache == null) return evaluate(url);
+            // summarizeUrl(sync) 과 같은 경로: OK 일 때만 저장되고, 어떤 결과든 계산이 끝나면 재계산 락이 풀린다
+            AtomicReference<Outcome> computed = new AtomicReference<>();
+            ItemSummaryResponse item = cache.get(CACHE_KEY_PREFIX + url, () -> {
+                Outcome out = evaluate(url);
+                computed.set(out);
+                return out.status() == ItemStatus.OK ? out.item() : null;
+            });
+            if (computed.get() != null) return computed.get();
+            return item != null && StringUtils.isNotBlank(item.getSummary())
+                    ? new Outcome(ItemStatus.OK, item)
+                    : Outcome.of(ItemStatus.EMPTY);
+        } catch (FlaskOverloadedException e) {
+            return Outcome.of(ItemStatus.OVERLOADED);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof FlaskOverloadedException) return Outcome.of(ItemStatus.OVERLOADED);
+            log.warn("[Explore] summarize failed: {}", url, e.getCause());
+            return Outcome.of(ItemStatus.ERROR);
+        }
+    }
+
+    private Outcome evaluate(String url) {
+        if (url == null || SourceDomainPolicy.isHardBlocked(url)) return Outcome.of(ItemStatus.BLOCKED);
         try {
             var page = contentFetcher.fetch(url);
-            if (page == null || org.apache.commons.lang3.StringUtils.isBlank(page.text())) {
+            if (page == null || StringUtils.isBlank(page.text())) {
                 log.info("[Explore] fetch failed or empty: {}", url);
-                return null;
+                return Outcome.of(ItemStatus.FETCH_FAILED);
             }
 
             String title = ArticleCleaner.normalizeTitle(page.title());
@@ -45,7 +105,7 @@ public class ExploreSummarizeService {
             if (reason != ContentQualityGate.FailReason.OK) {
                 int bodyLen = body == null ? 0 : body.length();
                 log.info("[Explore] quality gate fail: reason={}, host={}, len={}, url={}", reason, host, bodyLen, url);
-                return null;
+                return Outcome.of(ItemStatus.QUALITY_FAIL);
             }
 
             // publishedAt: ArticleText에서 먼저 시도, 없으면 URL에서 추정
@@ -64,22 +124,31 @@ public class ExploreSummarizeService {
                     publishedAtInstant != null ? publishedAtInstant.toString() : null,
                     body
             );
-            if (one == null || org.apache.commons.lang3.StringUtils.isBlank(one.summary())) {
+            if (one == null || StringUtils.isBlank(one.summary())) {
                 log.info("[Explore] per-doc summarize empty: {}", url);
-                return null;
+                return Outcome.of(ItemStatus.EMPTY);
             }
 
-            return org.likelionhsu.backend.naversearch.dto.ExploreSummarizeDtos.ItemSummaryResponse.builder()
+            return new Outcome(ItemStatus.OK, ItemSummaryResponse.builder()
                     .url(url)
                     .title(title)
                     .summary(one.summary())
                     .sourceType("external")
                     .publishedAt(publishedAtInstant) // ✅ Instant 타입 맞게
-                    .build();
+                    .build());
 
+        } catch (FlaskOverloadedException e) {
+            // 모델 서버 과부하: 원문 클립을 요약으로 캐시하지 않도록 그대로 503 전파
+            throw e;
         } catch (Exception e) { // IOException 포함
             log.warn("[Explore] summarizeUrl failed: {}", url, e);
-            return null;
+            return Outcome.of(ItemStatus.ERROR);
+        }
+    }
+
+    public record Outcome(ItemStatus status, ItemSummaryResponse item) {
+        static Outcome of(ItemStatus status) {
+            return new Outcome(status, null);
         }
     }
 
@@ -0,0 +1,154 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.likelionhsu.backend.ai.filter.SourceDomainPolicy;
+import org.likelionhsu.backend.flask.FlaskConcurrencyLimiter;
+import org.likelionhsu.backend.flask.SummaryPriority;
+import org.likelionhsu.backend.naversearch.NaverSearchItemDto;
+import org.likelionhsu.backend.naversearch.dto.ExploreSummarizeDtos.ItemStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탐색 결과 요약 프리페치 (추측성 워밍)
+ *  - /explore/naver 응답의 상위 K개 URL 을 BACKGROUND 우선순위로 미리 요약해 summary 캐시를 채운다
+ *  - 이미 캐시된 URL, 최근 실패한 URL(negative cache), 진행 중인 URL 은 건너뜀
+ *  - 모델 서버에 대기자가 있거나 남은 슬롯이 없으면 실행하지 않는다 (유휴 용량만 사용)
+ *  - 대기열이 차면 버림: 사용자가 클릭하면 그때 요약하므로 잃는 것은 없다
+ */
+@Slf4j
+@Component
+public class ExploreSummaryPrefetcher {
+
+    /** 다시 시도해도 같은 결과인 실패만 negative cache 에 넣는다 (과부하/타임아웃/일시 오류는 제외) */
+    private static final Set<ItemStatus> NEGATIVE = EnumSet.of(
+            ItemStatus.BLOCKED, ItemStatus.FETCH_FAILED, ItemStatus.QUALITY_FAIL, ItemStatus.EMPTY);
+
+    private final ExploreSummarizeService summarizeService;
+    private final FlaskConcurrencyLimiter limiter;
+    private final ThreadPoolTaskExecutor executor;
+    private final Cache<String, ItemStatus> negative;
+    /** 대기/진행 중 URL. 대기열이 차서 버려진 작업이 남기는 항목은 만료로 정리된다 */
+    private final Cache<String, Boolean> pending = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong offered = new AtomicLong();
+    private final AtomicLong skippedCached = new AtomicLong();
+    private final AtomicLong skippedNegative = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong warmed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @Value("${explore.prefetch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${explore.prefetch.top-k:3}")
+    private int topK;
+
+    /** 동시에 모델 서버를 쓰는 프리페치 수 상한 */
+    @Value("${explore.prefetch.max-in-flight:1}")
+    private int maxInFlight;
+
+    public ExploreSummaryPrefetcher(ExploreSummarizeService summarizeService,
+                                    FlaskConcurrencyLimiter limiter,
+                                    @Qualifier("summaryPrefetchExecutor") ThreadPoolTaskExecutor executor,
+                                    @Value("${explore.prefetch.negative-ttl-minutes:30}") long negativeTtlMinutes,
+                                    @Value("${explore.prefetch.negative-max-size:10000}") long negativeMaxSize) {
+        this.summarizeService = summarizeService;
+        this.limiter = limiter;
+        this.executor = executor;
+        this.negative = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(Math.max(1, negativeTtlMinutes)))
+                .maximumSize(Math.max(100, negativeMaxSize))
+                .build();
+    }
+
+    /**
+     * 목록 응답 직후 호출 (요청 스레드에서는 큐에 넣기만 한다).
+     * URL 은 프론트가 단건 요약에 보내는 것과 같은 기준(원문 링크 우선, 없으면 네이버 링크)이어야 캐시가 맞는다.
+     */
+    public void offer(List<NaverSearchItemDto> items) {
+        if (!enabled || items == null || items.isEmpty()) return;
+        items.stream()
+                .map(it -> StringUtils.trimToNull(StringUtils.defaultIfBlank(it.getOriginallink(), it.getLink())))
+                .filter(u -> u != null && !SourceDomainPolicy.isHardBlocked(u))
+                .distinct()
+                .limit(Math.max(0, topK))
+                .forEach(this::enqueue);
+    }
+
+    private void enqueue(String url) {
+        offered.incrementAndGet();
+        if (negative.getIfPresent(url) != null) {
+            skippedNegative.incrementAndGet();
+            return;
+        }
+        if (pending.asMap().putIfAbsent(url, Boolean.TRUE) != null) return;
+        executor.execute(() -> {
+            try {
+                warm(url);
+            } finally {
+                pending.invalidate(url);
+            }
+        });
+    }
+
+    private void warm(String url) {
+        if (summarizeService.isCached(url)) {
+            skippedCached.incrementAndGet();
+            return;
+        }
+        if (!hasIdleCapacity()) {
+            throttled.incrementAndGet();
+            return;
+        }
+        if (inFlight.incrementAndGet() > Math.max(1, maxInFlight)) {
+            inFlight.decrementAndGet();
+            throttled.incrementAndGet();
+            return;
+        }
+        try {
+            ExploreSummarizeService.Outcome out = SummaryPriority.with(SummaryPriority.BACKGROUND,
+                    () -> summarizeService.summarizeWithStatus(url));
+            if (out.status() == ItemStatus.OK) {
+                warmed.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+                if (NEGATIVE.contains(out.status())) negative.put(url, out.status());
+            }
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.debug("[prefetch] {} failed: {}", url, e.toString());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /** 대기 중인 요약 요청이 없고, 사용자용 슬롯을 하나 이상 남길 수 있을 때만 */
+    private boolean hasIdleCapacity() {
+        FlaskConcurrencyLimiter.LimiterStats s = limiter.snapshot();
+        return s.queued() == 0 && s.inFlight() < s.limit() - 1;
+    }
+
+    public PrefetchStats snapshot() {
+        return new PrefetchStats(offered.get(), skippedCached.get(), skippedNegative.get(), throttled.get(),
+                warmed.get(), failed.get(), pending.estimatedSize(), negative.estimatedSize());
+    }
+
+    public record PrefetchStats(long offered, long skippedCached, long skippedNegative, long throttled,
+                                long warmed, long failed, long pending, long negativeEntries) {}
+}
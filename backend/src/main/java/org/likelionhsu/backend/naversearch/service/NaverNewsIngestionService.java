@@ -0,0 +1,241 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.jsoup.Jsoup;
+import org.likelionhsu.backend.ai.dto.ArticleText;
+import org.likelionhsu.backend.ai.service.ContentFetcher;
+import org.likelionhsu.backend.common.config.NaverSearchProperties;
+import org.likelionhsu.backend.common.exception.customexception.NaverQuotaExceededException;
+import org.likelionhsu.backend.naversearch.NaverSearchItemDto;
+import org.likelionhsu.backend.post.cache.PostScope;
+import org.likelionhsu.backend.post.cache.PostsChangedEvent;
+import org.likelionhsu.backend.post.domain.Category;
+import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.domain.PubDates;
+import org.likelionhsu.backend.post.domain.SourceType;
+import org.likelionhsu.backend.post.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 네이버 뉴스 → Post(SourceType.NAVER_NEWS) 주기 수집
+ *  - 질의: naver.search.queries × naver.search.regions ("서산시 전체"는 질의 그대로, 그 외는 지역명을 붙여서)
+ *  - 최신순 검색 → 정규화 URL(externalId)로 중복 제거 → 새 기사만 본문 추출 → JDBC 배치 INSERT
+ *  - 쿼터는 WARMUP 우선순위라 예산이 줄면 먼저 멈추고, 사용자 요청 몫을 남긴다
+ * AI 검색(SummarizationOrchestrator)은 여기서 쌓인 기사를 먼저 쓰고, 부족할 때만 실시간 검색/크롤링한다.
+ */
+@Slf4j
+@Service
+public class NaverNewsIngestionService {
+
+    private static final String CITY_WIDE = "서산시 전체";
+    private static final String CITY = "서산";
+    private static final DateTimeFormatter PUB_DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int MIN_BODY_LENGTH = 80;
+    private static final int TITLE_MAX = 255;
+
+    private final NaverSearchService naverSearchService;
+    private final ContentFetcher contentFetcher;
+    private final PostRepository postRepository;
+    private final NaverSearchProperties searchProperties;
+    private final ThreadPoolTaskExecutor executor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${naver.ingest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${naver.ingest.display:20}")
+    private int display;
+
+    @Value("${naver.ingest.max-articles-per-run:200}")
+    private int maxArticlesPerRun;
+
+    /** 검색 호출 사이 간격 (WARMUP 은 토큰을 기다리지 않으므로 초당 한도에 덜 걸리게) */
+    @Value("${naver.ingest.query-interval-ms:250}")
+    private long queryIntervalMs;
+
+    public NaverNewsIngestionService(NaverSearchService naverSearchService,
+                                     ContentFetcher contentFetcher,
+                                     PostRepository postRepository,
+                                     NaverSearchProperties searchProperties,
+                                     @Qualifier("newsIngestExecutor") ThreadPoolTaskExecutor executor,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.naverSearchService = naverSearchService;
+        this.contentFetcher = contentFetcher;
+        this.postRepository = postRepository;
+        this.searchProperties = searchProperties;
+        this.executor = executor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(fixedDelayString = "${naver.ingest.interval-ms:3600000}",
+            initialDelayString = "${naver.ingest.initial-delay-ms:60000}")
+    public void scheduleIngest() {
+        if (!enabled) return;
+        try {
+            executor.execute(this::ingest); // 스케줄러 스레드를 오래 잡지 않도록 수집 풀에서 실행
+        } catch (TaskRejectedException e) {
+            log.debug("[news-ingest] executor busy, skip round");
+        }
+    }
+
+    /** 한 번 수집. 이미 실행 중이면 건너뛰고 -1 */
+    public int ingest() {
+        if (!running.compareAndSet(false, true)) return -1;
+        long t0 = System.currentTimeMillis();
+        try {
+            Map<String, Candidate> candidates = search();
+            if (candidates.isEmpty()) return 0;
+
+            Set<String> existing = new HashSet<>();
+            List<String> ids = new ArrayList<>(candidates.keySet());
+            for (int i = 0; i < ids.size(); i += 500) {
+                existing.addAll(postRepository.findExistingExternalIds(SourceType.NAVER_NEWS,
+                        ids.subList(i, Math.min(ids.size(), i + 500))));
+            }
+            List<Candidate> fresh = candidates.values().stream()
+                    .filter(c -> !existing.contains(c.externalId()))
+                    .limit(Math.max(0, maxArticlesPerRun))
+                    .toList();
+
+            // 본문 추출은 블로킹(Jsoup)이라 수집 풀에서 병렬로
+            List<CompletableFuture<Post>> futures = fresh.stream()
+                    .map(c -> CompletableFuture.supplyAsync(() -> toPost(c), executor)
+                            .exceptionally(err -> null))
+                    .toList();
+            List<Post> posts = futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            int inserted = postRepository.insertIgnoringDuplicates(posts);
+            if (inserted > 0) {
+                eventPublisher.publishEvent(PostsChangedEvent.inserted(posts.stream()
+                        .map(p -> new PostScope(p.getRegion(), p.getCategory()))
+                        .collect(Collectors.toSet())));
+            }
+            log.info("[news-ingest] candidates={} new={} extracted={} inserted={} {}ms",
+                    candidates.size(), fresh.size(), posts.size(), inserted, System.currentTimeMillis() - t0);
+            return inserted;
+        } catch (Exception e) {
+            log.warn("[news-ingest] round failed: {}", e.toString());
+            return 0;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /* ------------------------- search ------------------------- */
+
+    private Map<String, Candidate> search() throws InterruptedException {
+        Map<String, Candidate> byId = new LinkedHashMap<>();
+        int quotaSkips = 0;
+        for (Plan plan : plans()) {
+            List<NaverSearchItemDto> items;
+            try {
+                items = naverSearchService.searchLatest("news", plan.query(), Math.max(1, Math.min(100, display)),
+                        NaverQuotaPriority.WARMUP);
+            } catch (NaverQuotaExceededException e) {
+                quotaSkips++;
+                continue;
+            } catch (Exception e) {
+                log.debug("[news-ingest] search failed q={}: {}", plan.query(), e.toString());
+                continue;
+            }
+            for (NaverSearchItemDto item : items == null ? List.<NaverSearchItemDto>of() : items) {
+                String id = NewsUrls.canonical(item.getOriginallink(), item.getLink());
+                if (id == null) continue;
+                Candidate prev = byId.get(id);
+                // 같은 기사가 여러 지역 질의에 걸리면 구체적인 지역을 남긴다
+                if (prev == null || (CITY_WIDE.equals(prev.region()) && !CITY_WIDE.equals(plan.region()))) {
+                    byId.put(id, new Candidate(id, plan.region(), item));
+                }
+            }
+            if (queryIntervalMs > 0) Thread.sleep(queryIntervalMs);
+        }
+        if (quotaSkips > 0) log.info("[news-ingest] {} queries skipped by quota", quotaSkips);
+        return byId;
+    }
+
+    /** "서산시 전체"는 질의 그대로, 읍면동은 "서산 {지역} {질의에서 시 이름 뺀 나머지}" */
+    private List<Plan> plans() {
+        List<String> queries = searchProperties.getQueries() == null ? List.of() : searchProperties.getQueries();
+        List<String> regions = searchProperties.getRegions() == null ? List.of(CITY_WIDE) : searchProperties.getRegions();
+        List<Plan> plans = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String region : regions) {
+            for (String query : queries) {
+                String q = StringUtils.normalizeSpace(query);
+                if (q.isEmpty()) continue;
+                String text = CITY_WIDE.equals(region)
+                        ? q
+                        : StringUtils.normalizeSpace(CITY + " " + region + " " + StringUtils.removeStart(q, CITY));
+                if (seen.add(text)) plans.add(new Plan(region, text));
+            }
+        }
+        return plans;
+    }
+
+    /* ------------------------- extract ------------------------- */
+
+    private Post toPost(Candidate c) {
+        NaverSearchItemDto item = c.item();
+        ArticleText page = fetch(item.getOriginallink());
+        if (page == null || StringUtils.length(page.text()) < MIN_BODY_LENGTH) page = fetch(item.getLink());
+        if (page == null || StringUtils.length(page.text()) < MIN_BODY_LENGTH) return null;
+
+        String title = StringUtils.defaultIfBlank(plain(item.getTitle()), StringUtils.trimToEmpty(page.title()));
+        if (title.isEmpty()) return null;
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime publishedAt = PubDates.publishedAt(item.getPubDate(), now);
+        return Post.builder()
+                .title(StringUtils.abbreviate(title, TITLE_MAX))
+                .content(page.text())
+                .link(c.externalId())
+                .pubDate(publishedAt.format(PUB_DATE_FMT))
+                .publishedAt(publishedAt)
+                .region(c.region())
+                .category(Category.NEWS)
+                .views(0)
+                .crawledAt(now)
+                .sourceType(SourceType.NAVER_NEWS)
+                .externalId(c.externalId())
+                .build();
+    }
+
+    private ArticleText fetch(String url) {
+        if (StringUtils.isBlank(url)) return null;
+        return contentFetcher.fetch(url.replace("&amp;", "&").trim());
+    }
+
+    /** 검색 응답 제목의 <b> 태그/엔티티 제거 */
+    private static String plain(String html) {
+        return html == null ? "" : Jsoup.parse(html).text().trim();
+    }
+
+    private record Plan(String region, String query) {}
+
+    private record Candidate(String externalId, String region, NaverSearchItemDto item) {}
+}
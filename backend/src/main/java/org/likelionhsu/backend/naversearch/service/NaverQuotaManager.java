@@ -0,0 +1,160 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.common.exception.customexception.NaverQuotaExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 네이버 Open API 쿼터 관리 (Redis 공유 → 전 노드 합산)
+ *  - API 별 일일 호출 수(KST 날짜 키)와 초당 토큰 버킷을 Lua 스크립트 하나로 원자적으로 확인/차감
+ *  - 우선순위별 예약분(NaverQuotaPriority)을 남겨서, 예산이 줄면 warm-up → AI 검색 순으로 먼저 멈춘다
+ *  - 초당 한도에 걸리면 우선순위별 maxWaitMs 까지만 기다리고, 일일 예산 부족이면 즉시 NaverQuotaExceededException
+ *  - Redis 장애 시에는 쿼터 확인 없이 통과 (기능 중단보다 나음)
+ */
+@Slf4j
+@Component
+public class NaverQuotaManager {
+
+    public enum Api { SEARCH, DATALAB }
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final long RETRY_INTERVAL_MS = 100;
+
+    // 1: 통과, 0: 초당 토큰 부족, -1: 일일 예산 부족
+    private static final DefaultRedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            local cap = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local dailyLimit = tonumber(ARGV[4])
+            local dailyReserve = tonumber(ARGV[5])
+            local burstReserve = tonumber(ARGV[6])
+            local dayTtl = tonumber(ARGV[7])
+            local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if dailyLimit - used <= dailyReserve then return -1 end
+            local b = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(b[1]) or cap
+            local ts = tonumber(b[2]) or now
+            tokens = math.min(cap, tokens + math.max(0, now - ts) / 1000 * rate)
+            local ok = tokens - 1 >= burstReserve
+            if ok then tokens = tokens - 1 end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], 60000)
+            if not ok then return 0 end
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], dayTtl)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final Map<Api, Budget> budgets = new EnumMap<>(Api.class);
+
+    public NaverQuotaManager(StringRedisTemplate redis,
+                             @Value("${naver.quota.search.daily-limit:25000}") long searchDaily,
+                             @Value("${naver.quota.search.per-second:10}") int searchPerSecond,
+                             @Value("${naver.quota.datalab.daily-limit:1000}") long datalabDaily,
+                             @Value("${naver.quota.datalab.per-second:2}") int datalabPerSecond) {
+        this.redis = redis;
+        budgets.put(Api.SEARCH, new Budget(Math.max(1, searchDaily), Math.max(1, searchPerSecond)));
+        budgets.put(Api.DATALAB, new Budget(Math.max(1, datalabDaily), Math.max(1, datalabPerSecond)));
+    }
+
+    /** 호출 1건 분의 쿼터를 확보 (블로킹 호출부용) */
+    public void acquire(Api api, NaverQuotaPriority priority) {
+        long deadline = System.currentTimeMillis() + priority.maxWaitMs();
+        while (true) {
+            long r = tryAcquire(api, priority);
+            if (r > 0) return;
+            if (r < 0) throw new NaverQuotaExceededException(api + " daily budget reserved for higher priority");
+            if (System.currentTimeMillis() + RETRY_INTERVAL_MS > deadline) {
+                throw new NaverQuotaExceededException(api + " rate limit");
+            }
+            try {
+                Thread.sleep(RETRY_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NaverQuotaExceededException(api + " interrupted");
+            }
+        }
+    }
+
+    /** acquire 의 Mono 버전 (Redis 호출/대기는 boundedElastic 에서) */
+    public Mono<Void> acquireMono(Api api, NaverQuotaPriority priority) {
+        return Mono.fromRunnable(() -> acquire(api, priority))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /** 네이버가 429 를 돌려준 경우: 이 노드 밖에서 쓴 양이 있다는 뜻이므로 초당 버킷을 비운다 */
+    public void onRateLimited(Api api) {
+        try {
+            redis.opsForHash().put(bucketKey(api), "tokens", "0");
+            redis.opsForHash().put(bucketKey(api), "ts", String.valueOf(System.currentTimeMillis()));
+        } catch (DataAccessException e) {
+            log.debug("[naver-quota] bucket reset failed {}: {}", api, e.toString());
+        }
+        log.warn("[naver-quota] {} returned 429, draining burst bucket", api);
+    }
+
+    public Map<Api, QuotaStats> snapshot() {
+        Map<Api, QuotaStats> out = new EnumMap<>(Api.class);
+        budgets.forEach((api, b) -> {
+            long used = 0;
+            try {
+                String v = redis.opsForValue().get(dayKey(api));
+                used = v == null ? 0 : Long.parseLong(v);
+            } catch (DataAccessException | NumberFormatException e) {
+                log.debug("[naver-quota] read failed {}: {}", api, e.toString());
+            }
+            out.put(api, new QuotaStats(b.dailyLimit(), used, Math.max(0, b.dailyLimit() - used), b.perSecond()));
+        });
+        return out;
+    }
+
+    /* ------------------------- internals ------------------------- */
+
+    private long tryAcquire(Api api, NaverQuotaPriority priority) {
+        Budget b = budgets.get(api);
+        try {
+            Long r = redis.execute(ACQUIRE, List.of(bucketKey(api), dayKey(api)),
+                    String.valueOf(b.perSecond()),
+                    String.valueOf(b.perSecond()),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(b.dailyLimit()),
+                    String.valueOf((long) Math.floor(b.dailyLimit() * priority.dailyReserve())),
+                    String.valueOf(b.perSecond() * priority.burstReserve()),
+                    String.valueOf(Duration.ofHours(26).toSeconds()));
+            return r == null ? 1 : r;
+        } catch (DataAccessException e) {
+            log.debug("[naver-quota] redis unavailable, allowing {} call: {}", api, e.toString());
+            return 1;
+        }
+    }
+
+    private static String bucketKey(Api api) {
+        return "naver:quota:" + api.name().toLowerCase(Locale.ROOT) + ":burst";
+    }
+
+    private static String dayKey(Api api) {
+        return "naver:quota:" + api.name().toLowerCase(Locale.ROOT) + ":day:" + LocalDate.now(KST).format(DAY);
+    }
+
+    private record Budget(long dailyLimit, int perSecond) {}
+
+    public record QuotaStats(long dailyLimit, long usedToday, long remainingToday, int perSecond) {}
+}
@@ -0,0 +1,36 @@
+package org.likelionhsu.backend.naversearch.service;
+
+/**
+ * 네이버 API 쿼터 사용 우선순위
+ *  - dailyReserve : 하루 예산 중 남은 비율이 이 값 이하이면 호출하지 않는다
+ *  - burstReserve : 초당 버킷 토큰이 (용량 × 이 값) 이하이면 호출하지 않는다
+ *  - maxWaitMs    : 초당 한도에 걸렸을 때 토큰을 기다리는 최대 시간
+ * 예산이 줄어들수록 WARMUP → AI_SEARCH 순으로 먼저 멈추고, 사용자 탐색(EXPLORE)이 마지막까지 남는다.
+ */
+public enum NaverQuotaPriority {
+    EXPLORE(0.0, 0.0, 1_000),
+    AI_SEARCH(0.1, 0.2, 2_000),
+    WARMUP(0.3, 0.5, 0);
+
+    private final double dailyReserve;
+    private final double burstReserve;
+    private final long maxWaitMs;
+
+    NaverQuotaPriority(double dailyReserve, double burstReserve, long maxWaitMs) {
+        this.dailyReserve = dailyReserve;
+        this.burstReserve = burstReserve;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    public double dailyReserve() {
+        return dailyReserve;
+    }
+
+    public double burstReserve() {
+        return burstReserve;
+    }
+
+    public long maxWaitMs() {
+        return maxWaitMs;
+    }
+}
@@ -1,16 +1,21 @@
 package org.likelionhsu.backend.naversearch.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.common.exception.customexception.NaverQuotaExceededException;
 import org.likelionhsu.backend.naversearch.NaverSearchItemDto;
+import org.likelionhsu.backend.naversearch.dto.DataLabTrendResponse;
+import org.likelionhsu.backend.naversearch.dto.NaverSearchResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
+import org.springframework.core.codec.DecodingException;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
@@ -28,16 +33,32 @@ public class NaverSearchService {
     @Value("${naver.api.client-secret}")
     private String clientSecret;
 
-    private final ObjectMapper objectMapper;
+    /** DataLab 요청당 최대 키워드 그룹 수 */
+    @Value("${naver.datalab.batch.max-groups:5}")
+    private int datalabMaxGroups;
+
+    @Value("${naver.datalab.batch.concurrency:4}")
+    private int datalabBatchConcurrency;
+
     private final WebClient external;
+    private final DiscoveryCache discoveryCache;
+    private final QueryNormalizer queryNormalizer;
+    private final NaverQuotaManager quota;
+    private final DataLabTrendStore trendStore;
 
     // ★ 생성자 파라미터에 Qualifier 명시
     public NaverSearchService(
-            ObjectMapper objectMapper,
-            @Qualifier("externalWebClient") WebClient external
+            @Qualifier("externalWebClient") WebClient external,
+            DiscoveryCache discoveryCache,
+            QueryNormalizer queryNormalizer,
+            NaverQuotaManager quota,
+            DataLabTrendStore trendStore
     ) {
-        this.objectMapper = objectMapper;
         this.external = external;
+        this.discoveryCache = discoveryCache;
+        this.queryNormalizer = queryNormalizer;
+        this.quota = quota;
+        this.trendStore = trendStore;
     }
 
     private static final String NAVER_HOST = "openapi.naver.com";
@@ -46,16 +67,35 @@ public class NaverSearchService {
 
     /* --------------------- DataLab --------------------- */
 
-    public JsonNode getDailyTrends(String startDate, String endDate, List<Map<String, Object>> keywordGroups) {
-        return callNaverDatalabApi("date", startDate, endDate, keywordGroups);
+    /** 저장된 시계열에서 응답, DataLab 은 누락된 앞/뒤 구간만 호출 */
+    public DataLabTrendResponse getDailyTrends(String startDate, String endDate, List<Map<String, Object>> keywordGroups) {
+        return trendStore.trends("date", startDate, endDate, keywordGroups, this::callNaverDatalabApi);
     }
 
-    public JsonNode getWeeklyTrends(String startDate, String endDate, List<Map<String, Object>> keywordGroups) {
-        return callNaverDatalabApi("week", startDate, endDate, keywordGroups);
+    public DataLabTrendResponse getWeeklyTrends(String startDate, String endDate, List<Map<String, Object>> keywordGroups) {
+        return trendStore.trends("week", startDate, endDate, keywordGroups, this::callNaverDatalabApi);
     }
 
-    private JsonNode callNaverDatalabApi(String timeUnit, String startDate, String endDate,
+    /** 그룹 수가 DataLab 한도를 넘으면 anchor 를 공유하는 청크로 나눠 병렬 호출 후 병합 (청크마다 쿼터 확보) */
+    private DataLabTrendResponse callNaverDatalabApi(String timeUnit, String startDate, String endDate,
                                          List<Map<String, Object>> keywordGroups) {
+        List<List<Map<String, Object>>> chunks = DataLabBatches.split(keywordGroups, Math.max(2, datalabMaxGroups));
+        if (chunks.size() == 1) {
+            return datalabMono(timeUnit, startDate, endDate, keywordGroups).block();
+        }
+
+        List<DataLabTrendResponse> responses = Flux.fromIterable(chunks)
+                .flatMapSequential(chunk -> datalabMono(timeUnit, startDate, endDate, chunk),
+                        Math.max(1, datalabBatchConcurrency))
+                .collectList()
+                .block();
+        log.debug("[datalab] {} groups fetched in {} chunks", keywordGroups.size(), chunks.size());
+        return DataLabBatches.merge(responses, keywordGroups);
+    }
+
+    /** 응답 버퍼에서 바로 레코드로 디코딩 (중간 String/JsonNode 없음) */
+    private Mono<DataLabTrendResponse> datalabMono(String timeUnit, String startDate, String endDate,
+                                       List<Map<String, Object>> keywordGroups) {
         Map<String, Object> body = Map.of(
                 "startDate", startDate,
                 "endDate", endDate,
@@ -63,70 +103,121 @@ public class NaverSearchService {
                 "keywordGroups", keywordGroups
         );
 
-        String json = external.post()
-                .uri(uri -> uri.scheme("https").host(NAVER_HOST).path(DATALAB_PATH).build())
-                .headers(this::applyAuthHeadersJson)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(body)
-                .retrieve()
-                .bodyToMono(String.class)
+        // 재시도도 쿼터를 쓰므로 시도마다 확보, 4xx(429 포함)는 재시도하지 않음
+        return Mono.defer(() -> quota.acquireMono(NaverQuotaManager.Api.DATALAB, NaverQuotaPriority.EXPLORE)
+                        .then(external.post()
+                                .uri(uri -> uri.scheme("https").host(NAVER_HOST).path(DATALAB_PATH).build())
+                                .headers(this::applyAuthHeadersJson)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(body)
+                                .retrieve()
+                                .bodyToMono(DataLabTrendResponse.class)))
                 .timeout(Duration.ofSeconds(60))
-                .retryWhen(Retry.backoff(2, Duration.ofMillis(500)))
-                .block();
-
-        try {
-            return objectMapper.readTree(json);
-        } catch (Exception e) {
-            log.error("네이버 데이터랩 응답 파싱 실패", e);
-            throw new RuntimeException("네이버 데이터랩 응답 파싱 실패", e);
-        }
+                .doOnError(e -> onNaverError(NaverQuotaManager.Api.DATALAB, e))
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(500)).filter(NaverSearchService::isRetryable))
+                .doOnError(DecodingException.class, e -> log.error("네이버 데이터랩 응답 파싱 실패", e));
     }
 
     /* --------------------- Search --------------------- */
 
-    @Cacheable(cacheNames = "discovery", cacheManager = "caffeineCacheManager",
-            key = "#type + '::' + #query + '::' + #display",
-            unless = "#result == null || #result.isEmpty()")
+    /** discovery 캐시(stale-while-revalidate) 경유 검색, 캐시 키는 정규화된 질의 기준 (사용자 탐색 우선순위) */
     public List<NaverSearchItemDto> search(String type, String query, int display) {
-        int d = Math.max(1, display);
-
-        String json = external.get()
-                .uri(uri -> uri.scheme("https")
-                        .host(NAVER_HOST)
-                        .path(SEARCH_BASE_PATH + "/" + type + ".json")
-                        .queryParam("query", query)
-                        .queryParam("display", d)
-                        .queryParam("start", 1)
-                        .queryParam("sort", "sim")
-                        .build())
-                .headers(this::applyAuthHeaders)
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(60))
-                .retryWhen(Retry.backoff(2, Duration.ofMillis(500)))
-                .block();
+        return search(type, query, display, NaverQuotaPriority.EXPLORE);
+    }
+
+    public List<NaverSearchItemDto> search(String type, String query, int display, NaverQuotaPriority priority) {
+        return searchMono(type, query, display, priority).block();
+    }
 
+    /** search 의 논블로킹 버전 (여러 타입 동시 조회용) */
+    public Mono<List<NaverSearchItemDto>> searchMono(String type, String query, int display) {
+        return searchMono(type, query, display, NaverQuotaPriority.EXPLORE);
+    }
+
+    public Mono<List<NaverSearchItemDto>> searchMono(String type, String query, int display, NaverQuotaPriority priority) {
+        QueryNormalizer.NormalizedQuery q = queryNormalizer.normalize(query);
+        if (q.isEmpty()) return Mono.just(new ArrayList<>());
+        return discoveryCache.getAsync(DiscoveryCache.DiscoveryKey.of(type, q, display), priority, this::fetchSearch);
+    }
+
+    /**
+     * 캐시를 거치지 않는 최신순(sort=date) 검색. 배치 수집용이라 discovery 캐시/refresh-ahead 대상에 남기지 않는다.
+     */
+    public List<NaverSearchItemDto> searchLatest(String type, String query, int display, NaverQuotaPriority priority) {
+        QueryNormalizer.NormalizedQuery q = queryNormalizer.normalize(query);
+        if (q.isEmpty()) return new ArrayList<>();
+        return fetchSearch(DiscoveryCache.DiscoveryKey.of(type, q, display), priority, "date").block();
+    }
 
-        List<NaverSearchItemDto> list = new ArrayList<>();
+    /** 최근 사용/인기 질의의 discovery 항목을 만료 전에 미리 갱신 */
+    @Scheduled(fixedDelayString = "${naver.search.cache.refresh-check-ms:60000}",
+            initialDelayString = "${naver.search.cache.warmup-delay-ms:15000}")
+    public void refreshDiscovery() {
         try {
-            JsonNode root = objectMapper.readTree(json);
-            for (JsonNode item : root.path("items")) {
-                list.add(new NaverSearchItemDto(
-                        item.path("title").asText(),
-                        item.path("description").asText(),
-                        item.path("link").asText(),
-                        item.path("originallink").asText(), // ★ 추가
-                        type
-                ));
-            }
+            discoveryCache.refreshDue(this::fetchSearch);
         } catch (Exception e) {
-            log.error("네이버 검색 응답 파싱 실패", e);
+            log.warn("[discovery] refresh round failed: {}", e.toString());
+        }
+    }
+
+    private Mono<List<NaverSearchItemDto>> fetchSearch(DiscoveryCache.DiscoveryKey key, NaverQuotaPriority priority) {
+        return fetchSearch(key, priority, "sim");
+    }
+
+    private Mono<List<NaverSearchItemDto>> fetchSearch(DiscoveryCache.DiscoveryKey key, NaverQuotaPriority priority, String sort) {
+        final String type = key.type();
+        final String query = key.query();
+        int d = Math.max(1, key.display());
+
+        // 재시도도 쿼터를 쓰므로 시도마다 확보, 4xx(429 포함)는 재시도하지 않음
+        return Mono.defer(() -> quota.acquireMono(NaverQuotaManager.Api.SEARCH, priority)
+                        .then(external.get()
+                                .uri(uri -> uri.scheme("https")
+                                        .host(NAVER_HOST)
+                                        .path(SEARCH_BASE_PATH + "/" + type + ".json")
+                                        .queryParam("query", query)
+                                        .queryParam("display", d)
+                                        .queryParam("start", 1)
+                                        .queryParam("sort", sort)
+                                        .build())
+                                .headers(this::applyAuthHeaders)
+                                .retrieve()
+                                .bodyToMono(NaverSearchResponse.class)))
+                .timeout(Duration.ofSeconds(60))
+                .doOnError(e -> onNaverError(NaverQuotaManager.Api.SEARCH, e))
+                .retryWhen(Retry.backoff(2, Duration.ofMillis(500)).filter(NaverSearchService::isRetryable))
+                .map(res -> withType(res, type))
+                .onErrorResume(DecodingException.class, e -> {
+                    log.error("네이버 검색 응답 파싱 실패", e);
+                    return Mono.just(List.of());
+                });
+    }
+
+    /** 응답 버퍼에서 바로 DTO 로 디코딩된 항목에 요청 타입만 채운다 */
+    private static List<NaverSearchItemDto> withType(NaverSearchResponse res, String type) {
+        if (res == null || res.items() == null) return new ArrayList<>();
+        List<NaverSearchItemDto> list = new ArrayList<>(res.items().size());
+        for (NaverSearchItemDto item : res.items()) {
+            if (item == null) continue;
+            item.setType(type);
+            list.add(item);
         }
         return list;
     }
 
     /* --------------------- Helpers --------------------- */
 
+    private void onNaverError(NaverQuotaManager.Api api, Throwable e) {
+        if (e instanceof WebClientResponseException w && w.getStatusCode().value() == 429) quota.onRateLimited(api);
+    }
+
+    /** 5xx/네트워크 오류만 재시도. 4xx 와 쿼터 부족은 다시 보내도 같은 결과이고 쿼터만 소모한다 */
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof NaverQuotaExceededException) return false;
+        if (e instanceof WebClientResponseException w) return w.getStatusCode().is5xxServerError();
+        return true;
+    }
+
     private void applyAuthHeaders(HttpHeaders h) {
         h.set("X-Naver-Client-Id", clientId);
         h.set("X-Naver-Client-Secret", clientSecret);
@@ -0,0 +1,57 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * 뉴스 URL 정규화 (Post.externalId 중복 판정 기준)
+ *  - 스킴은 https, 호스트 소문자, www./m. 접두어 제거는 하지 않음(언론사별로 다른 문서일 수 있음)
+ *  - fragment, 추적용 파라미터(utm_*, fbclid, gclid 등) 제거, 경로 끝 '/' 제거
+ */
+public final class NewsUrls {
+
+    private NewsUrls() {
+    }
+
+    /** originallink 우선, 없으면 네이버 link */
+    public static String canonical(String originallink, String link) {
+        String a = canonical(originallink);
+        return a != null ? a : canonical(link);
+    }
+
+    public static String canonical(String raw) {
+        if (raw == null) return null;
+        String v = raw.replace("&amp;", "&").replace("\u200B", "").trim();
+        if (v.isEmpty()) return null;
+        if (v.startsWith("//")) v = "https:" + v;
+        try {
+            URI uri = new URI(v);
+            if (uri.getHost() == null) return null;
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            while (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+
+            StringBuilder sb = new StringBuilder("https://").append(uri.getHost().toLowerCase(Locale.ROOT));
+            if (uri.getPort() > 0 && uri.getPort() != 80 && uri.getPort() != 443) sb.append(':').append(uri.getPort());
+            sb.append(path);
+            String query = stripTracking(uri.getRawQuery());
+            if (!query.isEmpty()) sb.append('?').append(query);
+            return sb.toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String stripTracking(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) return "";
+        StringJoiner kept = new StringJoiner("&");
+        for (String param : rawQuery.split("&")) {
+            if (param.isEmpty()) continue;
+            String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || name.equals("fbclid") || name.equals("gclid")
+                    || name.equals("ref") || name.equals("from")) continue;
+            kept.add(param);
+        }
+        return kept.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import org.apache.commons.lang3.StringUtils;
+import org.likelionhsu.backend.common.config.NaverSearchProperties;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 질의 정규화 (캐시 키/중복 제거 공용)
+ *  1) NFKC + 소문자, 구두점/기호 → 공백, 공백 접기
+ *  2) 붙여 쓴 지역명 분리 ("서산맛집" → "서산 맛집")
+ *  3) key 에서만 토큰 끝 조사 제거 ("서산의" → "서산", 남는 글자가 2자 이상일 때만)
+ *  4) key 에서만 지역 별칭 → naver.search.regions 기준 표기 ("대산" → "대산읍", "서산시" → "서산")
+ *  5) key: 토큰 중복 제거 + 정렬 → "서산 맛집" / "맛집  서산" / "서산맛집" 이 같은 키
+ * text 는 원래 순서를 유지한 정리본(조사 제거/별칭 치환 없음)으로, 실제 검색어로 쓴다.
+ * 조사 제거는 형태소 분석 없는 끝 글자 비교라 "어린이", "고속도로" 같은 명사도 자르므로 검색어에는 적용하지 않는다.
+ */
+@Component
+public class QueryNormalizer {
+
+    private static final Pattern NON_WORD = Pattern.compile("[\\p{P}\\p{S}]+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Pattern HANGUL = Pattern.compile("[가-힣]+");
+
+    /** 긴 것부터 검사 (에서 → 에) */
+    private static final List<String> PARTICLES = List.of(
+            "에서는", "으로는", "에서", "으로", "까지", "부터", "에게", "한테", "이랑",
+            "은", "는", "이", "가", "을", "를", "의", "에", "로", "와", "과", "도", "만", "랑");
+
+    private static final String CITY = "서산";
+
+    /** 별칭 → 표기 */
+    private final Map<String, String> aliases = new HashMap<>();
+    /** 붙여 쓴 토큰 분리용 지역 접두어 (시 이름 + 정식 지역명, 긴 것부터) */
+    private final List<String> regionPrefixes;
+
+    public QueryNormalizer(NaverSearchProperties properties) {
+        aliases.put("서산시", CITY);
+        List<String> regions = properties.getRegions() == null ? List.of() : properties.getRegions();
+        for (String region : regions) {
+            String r = fold(region).replace(" 전체", "").trim();
+            if (r.isEmpty() || r.contains(" ")) continue;
+            if (r.equals("서산시")) continue; // "서산시 전체" → 서산
+            aliases.put(r, r);
+            String stem = r.replaceAll("(읍|면|동)$", "");
+            if (stem.length() >= 2 && !stem.equals(r)) aliases.putIfAbsent(stem, r);
+        }
+        Set<String> prefixes = new TreeSet<>(Comparator.comparingInt(String::length).reversed().thenComparing(s -> s));
+        prefixes.add(CITY);
+        prefixes.addAll(aliases.values()); // 줄임말("해미")은 "해미읍성" 같은 고유명사를 쪼개므로 제외
+        this.regionPrefixes = List.copyOf(prefixes);
+    }
+
+    public NormalizedQuery normalize(String raw) {
+        String folded = fold(raw);
+        if (folded.isEmpty()) return new NormalizedQuery("", "");
+
+        LinkedHashSet<String> tokens = new LinkedHashSet<>();
+        for (String t : folded.split(" ")) {
+            for (String part : splitRegionPrefix(t)) {
+                if (!part.isEmpty()) tokens.add(part);
+            }
+        }
+        Set<String> keyTokens = new TreeSet<>();
+        for (String token : tokens) keyTokens.add(canonicalRegion(stripParticle(token)));
+        return new NormalizedQuery(String.join(" ", tokens), String.join(" ", keyTokens));
+    }
+
+    /** 캐시 키만 필요할 때 */
+    public String key(String raw) {
+        return normalize(raw).key();
+    }
+
+    /* ------------------------- steps ------------------------- */
+
+    private static String fold(String s) {
+        if (s == null) return "";
+        String x = Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        x = NON_WORD.matcher(x).replaceAll(" ");
+        return SPACES.matcher(x).replaceAll(" ").trim();
+    }
+
+    private static String stripParticle(String token) {
+        if (!HANGUL.matcher(token).matches()) return token;
+        for (String p : PARTICLES) {
+            if (token.endsWith(p) && token.length() - p.length() >= 2) {
+                return token.substring(0, token.length() - p.length());
+            }
+        }
+        return token;
+    }
+
+    /** "서산맛집" → ["서산", "맛집"] (나머지가 2자 이상일 때만) */
+    private List<String> splitRegionPrefix(String token) {
+        for (String prefix : regionPrefixes) {
+            if (token.length() - prefix.length() >= 2 && token.startsWith(prefix)) {
+                List<String> out = new ArrayList<>();
+                out.add(prefix);
+                out.add(token.substring(prefix.length()));
+                return out;
+            }
+        }
+        return List.of(token);
+    }
+
+    private String canonicalRegion(String token) {
+        return aliases.getOrDefault(token, token);
+    }
+
+    /**
+     * text : 원래 순서의 정리된 질의 (검색어로 사용)
+     * key  : 순서/표기 차이를 없앤 캐시 키
+     */
+    public record NormalizedQuery(String text, String key) {
+        public boolean isEmpty() {
+            return StringUtils.isEmpty(text);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.likelionhsu.backend.post.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.common.cache.RedisCircuitBreaker;
+import org.likelionhsu.backend.post.domain.Category;
+import org.likelionhsu.backend.post.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록/피드/상세 응답 캐시 (Redis, 직렬화된 JSON 그대로 저장)
+ *  - 적중 시 DB 조회도, 객체 역직렬화/재직렬화도 없이 저장된 JSON 을 그대로 응답한다
+ *  - 목록 키에는 해당 (지역, 카테고리) 범위의 버전 번호가 들어가고, 게시글이 바뀌면 그 범위 버전만 올려서
+ *    관련 키만 더 이상 참조되지 않게 한다 (나머지 지역/카테고리 캐시는 유지, 옛 키는 TTL 로 정리)
+ *    · 변경 (r, c) → ver(*,*), ver(r,*), ver(*,c), ver(r,c) 증가
+ *    · 조회 (R, C) → ver(R|*, C|*) 와, 지역 지정 시 "서산시 전체" 글도 섞이므로 ver(서산시 전체, C|*) 도 키에 포함
+ *  - 상세는 게시글 id 단위로 삭제 (조회수 flush 때도 반영된 글만 삭제)
+ *  - Redis 장애 중에는 캐시 없이 DB 로 응답하고, 그동안의 무효화는 복구 시 한 번에 반영
+ */
+@Slf4j
+@Component
+public class PostResponseCache {
+
+    private static final String PREFIX = "post:cache:";
+    private static final String VERSION = PREFIX + "ver:";
+    private static final String EPOCH = VERSION + "epoch";
+    private static final String ANY = "*";
+    private static final String CITY_WIDE = "서산시 전체";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final RedisCircuitBreaker breaker;
+    private final PostRepository postRepository;
+
+    /** Redis 장애 중 반영하지 못한 무효화 (복구 시 재시도) */
+    private final Set<String> pendingVersionKeys = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingDetails = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Value("${post.cache.enabled:true}")
+    private boolean enabled;
+
+    /** 무효화는 이벤트로 하므로 TTL 은 이벤트를 놓쳤을 때의 상한 (크롤러가 제한 시간 뒤에 쓴 행 등) */
+    @Value("${post.cache.list-ttl-minutes:60}")
+    private long listTtlMinutes;
+
+    @Value("${post.cache.detail-ttl-minutes:360}")
+    private long detailTtlMinutes;
+
+    public PostResponseCache(StringRedisTemplate redis,
+                             ObjectMapper objectMapper,
+                             RedisCircuitBreaker breaker,
+                             PostRepository postRepository) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.breaker = breaker;
+        this.postRepository = postRepository;
+        breaker.onRecovery(this::flushPending);
+    }
+
+    /* ========================= read-through ========================= */
+
+    /** 오프셋 목록 (/api/posts?page=). range 는 정규화된 게시일 기간 (PublishedRange.key) */
+    public String page(String region, Category category, String range, int page, int size, Supplier<?> loader) {
+        return list("page", region, category, range + ":" + page + ":" + size, loader);
+    }
+
+    /** 커서 피드 (/api/posts/feed) */
+    public String feed(String region, Category category, String range, String cursor, int size, Supplier<?> loader) {
+        return list("feed", region, category,
+                range + ":" + (cursor == null || cursor.isBlank() ? "-" : cursor.trim()) + ":" + size, loader);
+    }
+
+    /** 상세 (/api/posts/{id}). loader 예외(404 등)는 캐시하지 않고 그대로 전파 */
+    public String detail(Long postId, Supplier<?> loader) {
+        return readThrough(PREFIX + "detail:" + postId, Duration.ofMinutes(Math.max(1, detailTtlMinutes)), loader);
+    }
+
+    private String list(String kind, String region, Category category, String suffix, Supplier<?> loader) {
+        if (!enabled) return serialize(loader.get());
+        String r = requestRegion(region);
+        String c = category == null ? ANY : category.name();
+        List<String> versionKeys = new ArrayList<>(List.of(EPOCH, versionKey(r, c)));
+        if (!ANY.equals(r)) versionKeys.add(versionKey(CITY_WIDE, c));
+
+        List<String> versions = breaker.call(() -> redis.opsForValue().multiGet(versionKeys), () -> null);
+        if (versions == null) {
+            bypassed.increment();
+            return serialize(loader.get());
+        }
+        String v = versions.stream().map(x -> Objects.toString(x, "0")).reduce((a, b) -> a + "." + b).orElse("0");
+        String key = PREFIX + kind + ":" + v + ":" + r + ":" + c + ":" + suffix;
+        return readThrough(key, Duration.ofMinutes(Math.max(1, listTtlMinutes)), loader);
+    }
+
+    private String readThrough(String key, Duration ttl, Supplier<?> loader) {
+        if (!enabled) return serialize(loader.get());
+        String cached = breaker.call(() -> redis.opsForValue().get(key), () -> null);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        String json = serialize(loader.get());
+        breaker.run(() -> redis.opsForValue().set(key, json, ttl));
+        return json;
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("post response serialization failed", e);
+        }
+    }
+
+    /* ========================= invalidation ========================= */
+
+    @EventListener
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (!enabled) return;
+        Set<PostScope> scopes = new HashSet<>(event.scopes());
+        List<Long> changedIds = List.of();
+        try {
+            if (event.crawledAfter() != null) {
+                scopes.addAll(postRepository.findScopesCrawledAfter(event.crawledAfter()));
+                changedIds = postRepository.findIdsCrawledAfter(event.crawledAfter());
+            } else if (scopes.isEmpty()) {
+                invalidateAll();
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[post-cache] change lookup failed, invalidating all: {}", e.toString());
+            invalidateAll();
+            return;
+        }
+        Set<String> keys = new HashSet<>();
+        for (PostScope s : scopes) {
+            String r = s.region() == null || s.region().isBlank() ? ANY : s.region().trim();
+            String c = s.category() == null ? ANY : s.category().name();
+            keys.add(versionKey(ANY, ANY));
+            keys.add(versionKey(r, ANY));
+            keys.add(versionKey(ANY, c));
+            keys.add(versionKey(r, c));
+        }
+        bump(keys);
+        evictDetails(changedIds);
+        invalidations.increment();
+        log.info("[post-cache] invalidated scopes={} details={}", scopes.size(), changedIds.size());
+    }
+
+    /** 목록 전체 무효화 (변경 범위를 알 수 없을 때) */
+    public void invalidateAll() {
+        bump(Set.of(EPOCH));
+        invalidations.increment();
+    }
+
+    private void bump(Set<String> versionKeys) {
+        if (versionKeys.isEmpty()) return;
+        boolean ok = breaker.run(() -> versionKeys.forEach(k -> redis.opsForValue().increment(k)));
+        if (!ok) pendingVersionKeys.addAll(versionKeys);
+    }
+
+    /** 상세 캐시 삭제 (조회수 flush 등 목록 범위와 무관한 변경). Redis 장애 중이면 복구 시 반영 */
+    public void evictDetails(Collection<Long> ids) {
+        if (!enabled || ids == null || ids.isEmpty()) return;
+        evictDetails(List.copyOf(ids));
+    }
+
+    private void evictDetails(List<Long> postIds) {
+        for (int i = 0; i < postIds.size(); i += 500) {
+            List<Long> batch = postIds.subList(i, Math.min(postIds.size(), i + 500));
+            List<String> keys = batch.stream().map(id -> PREFIX + "detail:" + id).toList();
+            if (!breaker.run(() -> redis.delete(keys))) pendingDetails.addAll(batch);
+        }
+    }
+
+    /** Redis 복구 시 장애 중 놓친 무효화 반영 */
+    private void flushPending() {
+        if (!pendingVersionKeys.isEmpty()) {
+            Set<String> keys = new HashSet<>(pendingVersionKeys);
+            pendingVersionKeys.removeAll(keys);
+            bump(keys);
+        }
+        if (!pendingDetails.isEmpty()) {
+            List<Long> ids = new ArrayList<>(pendingDetails);
+            pendingDetails.removeAll(ids);
+            evictDetails(ids);
+        }
+    }
+
+    /** 요청의 "서산시 전체"는 지역 필터 없음과 같다 (PostSpecification.hasRegion) */
+    private static String requestRegion(String region) {
+        return region == null || region.isBlank() || CITY_WIDE.equals(region.trim()) ? ANY : region.trim();
+    }
+
+    private static String versionKey(String region, String category) {
+        return VERSION + region + ":" + category;
+    }
+
+    public PostCacheStats snapshot() {
+        return new PostCacheStats(hits.sum(), misses.sum(), bypassed.sum(), invalidations.sum(),
+                pendingVersionKeys.size() + pendingDetails.size());
+    }
+
+    public record PostCacheStats(long hits, long misses, long bypassed, long invalidations, long pendingInvalidations) {}
+}
@@ -0,0 +1,6 @@
+package org.likelionhsu.backend.post.cache;
+
+import org.likelionhsu.backend.post.domain.Category;
+
+/** 게시글 목록 캐시 무효화 단위 (지역, 카테고리) */
+public record PostScope(String region, Category category) {}
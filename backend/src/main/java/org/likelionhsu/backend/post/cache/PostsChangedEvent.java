@@ -0,0 +1,21 @@
+package org.likelionhsu.backend.post.cache;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 게시글이 추가/수정되었음을 알리는 이벤트 (PostResponseCache 가 받아 무효화)
+ *  - crawledAfter : 크롤러 수집처럼 무엇이 바뀌었는지 모를 때. 이 시각 이후 crawled_at 행에서 범위/게시글을 조회한다
+ *                   (크롤러 컨테이너 시계 기준 값이므로 수집 전에 DB 의 MAX(crawled_at) 을 읽어 넘긴다)
+ *  - scopes       : 직접 넣은 행처럼 바뀐 (지역, 카테고리)를 알 때. 새 행뿐이면 상세 캐시는 건드릴 필요 없다
+ */
+public record PostsChangedEvent(LocalDateTime crawledAfter, Set<PostScope> scopes) {
+
+    public static PostsChangedEvent crawledAfter(LocalDateTime since) {
+        return new PostsChangedEvent(since, Set.of());
+    }
+
+    public static PostsChangedEvent inserted(Set<PostScope> scopes) {
+        return new PostsChangedEvent(null, scopes);
+    }
+}
@@ -1,39 +1,99 @@
 package org.likelionhsu.backend.post.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.likelionhsu.backend.post.cache.PostResponseCache;
 import org.likelionhsu.backend.post.domain.Category;
-import org.likelionhsu.backend.post.dto.response.PostDetailResponseDto;
 import org.likelionhsu.backend.post.dto.response.PostResponseDto;
 import org.likelionhsu.backend.post.service.PostService;
-import org.springframework.data.domain.Page;
+import org.likelionhsu.backend.post.service.PostViewCounter;
+import org.likelionhsu.backend.post.service.PublishedRange;
+import org.likelionhsu.backend.user.Service.UserDetailsImpl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/posts")
 public class PostController {
 
     private final PostService postService;
+    private final PostResponseCache postResponseCache;
+    private final PostViewCounter postViewCounter;
+
+    // 응답은 PostResponseCache 에 직렬화된 JSON 으로 저장되어 있어 그대로 내려준다 (본문 형식은 각 DTO 와 동일)
 
     @GetMapping
-    public ResponseEntity<Page<PostResponseDto>> getFilteredPosts(
+    public ResponseEntity<String> getFilteredPosts(
             @RequestParam(required = false) String region,
             @RequestParam(required = false) String category,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Category categoryEnum = null;
-        if (category != null && !category.isEmpty()) {
-            categoryEnum = Category.fromValue(category);
-        }
-        Page<PostResponseDto> posts = postService.findPostsByFilter(region, categoryEnum, page, size);
-        return ResponseEntity.ok(posts);
+        Category filter = parseCategory(category);
+        PublishedRange range = PublishedRange.parse(from, to);
+        String posts = postResponseCache.page(region, filter, range.key(), page, size,
+                () -> postService.findPostsByFilter(region, filter, range, page, size));
+        return json(posts);
+    }
+
+    @GetMapping("/feed")
+    public ResponseEntity<String> getPostFeed(
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        Category filter = parseCategory(category);
+        PublishedRange range = PublishedRange.parse(from, to);
+        String feed = postResponseCache.feed(region, filter, range.key(), cursor, size,
+                () -> postService.findFeed(region, filter, range, cursor, size));
+        return json(feed);
+    }
+
+    /** 최근 days 일 안에 게시된 글의 조회수 순위 */
+    @GetMapping("/popular")
+    public ResponseEntity<List<PostResponseDto>> getPopularPosts(
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.findPopular(region, parseCategory(category), days, size));
     }
 
+    /** 상세 응답의 views 는 조회수 flush 주기(post.views.flush-ms)만큼 늦게 반영된다 (flush 때 상세 캐시 삭제) */
     @GetMapping("/{postId}")
-    public ResponseEntity<PostDetailResponseDto> getPostById(@PathVariable Long postId) {
-        PostDetailResponseDto post = postService.findPostById(postId);
-        return ResponseEntity.ok(post);
+    public ResponseEntity<String> getPostById(@PathVariable Long postId,
+                                              @AuthenticationPrincipal UserDetailsImpl userDetails,
+                                              HttpServletRequest request) {
+        String post = postResponseCache.detail(postId, () -> postService.findPostById(postId));
+        postViewCounter.record(postId, viewerKey(userDetails, request)); // 없는 글(404)은 위에서 예외로 빠져 세지 않음
+        return json(post);
+    }
+
+    /**
+     * 로그인 사용자는 id, 아니면 클라이언트 IP + User-Agent.
+     * IP 는 getRemoteAddr: Nginx 뒤에서는 Tomcat RemoteIpValve 가 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가
+     * 붙인 X-Forwarded-For 값만 반영하므로, 클라이언트가 보낸 헤더로는 바꿀 수 없다
+     */
+    private static String viewerKey(UserDetailsImpl userDetails, HttpServletRequest request) {
+        if (userDetails != null) return "u:" + userDetails.getUserId();
+        return "a:" + request.getRemoteAddr() + ":"
+                + Integer.toHexString(String.valueOf(request.getHeader("User-Agent")).hashCode());
+    }
+
+    private static Category parseCategory(String category) {
+        return category == null || category.isEmpty() ? null : Category.fromValue(category);
+    }
+
+    private static ResponseEntity<String> json(String body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
 
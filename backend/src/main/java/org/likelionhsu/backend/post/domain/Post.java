@@ -11,7 +11,19 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "post")
+@Table(name = "post", uniqueConstraints = {
+        // 외부 소스 중복 저장 방지 (PostRepositoryCustom.insertIgnoringDuplicates 가 이 키 충돌만 건너뛴다).
+        // external_id 가 null 인 행(크롤러 공지)은 서로 겹치지 않는다
+        @UniqueConstraint(name = "UK_post_source_external_id", columnNames = {"source_type", "external_id"})
+}, indexes = {
+        // 수집 시각 증분 조회 (검색 색인 갱신, 크롤 후 변경분 조회, published_at 백필). 크롤러 인덱스 유무와 관계없이 보장
+        @Index(name = "IDX_post_crawled_at_id", columnList = "crawled_at, id"),
+        // 피드 keyset / 기간 조회 (published_at, id) 용. 뒤에 PK 가 붙어 id 동순위 정렬까지 인덱스 순서로 끝난다
+        @Index(name = "IDX_post_published_at", columnList = "published_at"),
+        @Index(name = "IDX_post_region_published_at", columnList = "region, published_at"),
+        @Index(name = "IDX_post_category_published_at", columnList = "category, published_at"),
+        @Index(name = "IDX_post_region_category_published_at", columnList = "region, category, published_at")
+})
 public class Post {
 
     @Id
@@ -30,6 +42,13 @@ public class Post {
     @Column(nullable = false)
     private String pubDate; // 게시일 (크롤링한 데이터의 date)
 
+    /**
+     * pubDate 를 해석한 게시 시각 (PubDates). 정렬/기간 조회는 이 컬럼으로 한다.
+     * 크롤러는 이 컬럼을 모르고 넣으므로 PostPublishedAtBackfill 이 채우기 전까지는 null 일 수 있다.
+     */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
     @Column(nullable = false)
     private String region; // 지역 (읍면동 또는 '서산시 전체')
 
@@ -57,7 +76,7 @@ public class Post {
      * 외부 시스템(NAVER 등)에서 사용하는 식별자 또는 URL.
      * 예: 네이버 뉴스의 경우 기사 URL을 저장해 중복 저장을 막는 데 사용.
      */
-    @Column(name = "external_id")
+    @Column(name = "external_id", length = 512)
     private String externalId;
 
     @Builder
@@ -65,6 +84,7 @@ public class Post {
                 String content,
                 String link,
                 String pubDate,
+                LocalDateTime publishedAt,
                 String region,
                 Category category,
                 String department,
@@ -76,6 +96,7 @@ public class Post {
         this.content = content;
         this.link = link;
         this.pubDate = pubDate;
+        this.publishedAt = publishedAt;
         this.region = region;
         this.category = category;
         this.department = department;
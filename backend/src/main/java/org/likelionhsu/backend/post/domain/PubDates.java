@@ -0,0 +1,56 @@
+package org.likelionhsu.backend.post.domain;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Post.pubDate(자유 형식 문자열) → Post.publishedAt(DATETIME) 변환 규칙
+ *  - 크롤러: "2025.08.16", "2025-08-16", "2025/08/16", "25.08.16", "2025년 8월 16일", 뒤에 "14:30(:00)" 이 붙을 수 있음
+ *  - 네이버 뉴스: RFC 1123 ("Sat, 16 Aug 2025 14:30:00 +0900") → 한국 시각
+ *  - 시각이 없으면 그 날 00:00, 해석할 수 없으면 null (호출 측에서 crawledAt 으로 대체)
+ */
+public final class PubDates {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Pattern DATE = Pattern.compile(
+            "(\\d{4}|\\d{2})\\s*[.\\-/년]\\s*(\\d{1,2})\\s*[.\\-/월]\\s*(\\d{1,2})(?:\\D+?(\\d{1,2}):(\\d{2})(?::(\\d{2}))?)?");
+
+    private PubDates() {
+    }
+
+    public static LocalDateTime parse(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+        String v = raw.trim();
+        if (Character.isLetter(v.charAt(0))) {
+            try {
+                return ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .withZoneSameInstant(KST).toLocalDateTime();
+            } catch (DateTimeException ignored) {
+                // 아래 숫자 패턴으로 한 번 더 시도
+            }
+        }
+        Matcher m = DATE.matcher(v);
+        if (!m.find()) return null;
+        try {
+            int year = Integer.parseInt(m.group(1));
+            if (m.group(1).length() == 2) year += 2000;
+            return LocalDateTime.of(year, Integer.parseInt(m.group(2)), Integer.parseInt(m.group(3)),
+                    m.group(4) == null ? 0 : Integer.parseInt(m.group(4)),
+                    m.group(5) == null ? 0 : Integer.parseInt(m.group(5)),
+                    m.group(6) == null ? 0 : Integer.parseInt(m.group(6)));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /** 게시일을 알 수 없는 글은 수집 시각을 게시 시각으로 본다 (정렬/기간 조회에서 빠지지 않도록) */
+    public static LocalDateTime publishedAt(String pubDate, LocalDateTime crawledAt) {
+        LocalDateTime parsed = parse(pubDate);
+        return parsed != null ? parsed : crawledAt;
+    }
+}
@@ -0,0 +1,14 @@
+package org.likelionhsu.backend.post.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PostFeedResponseDto {
+    private final List<PostResponseDto> content; // 이번 페이지 게시물
+    private final String nextCursor; // 다음 페이지 요청에 넘길 커서 (마지막 페이지면 null)
+    private final boolean hasNext; // 다음 페이지 존재 여부
+}
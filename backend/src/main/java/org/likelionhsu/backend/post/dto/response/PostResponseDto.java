@@ -4,6 +4,9 @@ import lombok.Builder;
 import lombok.Getter;
 import org.likelionhsu.backend.post.domain.Category;
 import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.repository.PostListRow;
+
+import java.time.LocalDateTime;
 
 @Getter
 @Builder
@@ -11,16 +14,32 @@ public class PostResponseDto {
     private final Long id;
     private final String title; // 게시물 제목
     private final String pubDate; // 게시일
+    private final LocalDateTime publishedAt; // 게시 시각 (pubDate 를 해석한 값, 정렬 기준)
     private final String region; // 지역 (읍면동)
     private final Category category; // 게시물 대분류 카테고리
+    private final Integer views; // 조회수
 
     public static PostResponseDto from(Post post) {
         return PostResponseDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .pubDate(post.getPubDate())
+                .publishedAt(post.getPublishedAt())
                 .region(post.getRegion())
                 .category(post.getCategory())
+                .views(post.getViews())
+                .build();
+    }
+
+    public static PostResponseDto from(PostListRow row) {
+        return PostResponseDto.builder()
+                .id(row.id())
+                .title(row.title())
+                .pubDate(row.pubDate())
+                .publishedAt(row.publishedAt())
+                .region(row.region())
+                .category(row.category())
+                .views(row.views())
                 .build();
     }
 }
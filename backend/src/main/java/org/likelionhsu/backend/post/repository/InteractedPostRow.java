@@ -0,0 +1,14 @@
+package org.likelionhsu.backend.post.repository;
+
+import org.likelionhsu.backend.post.domain.Category;
+
+import java.time.LocalDateTime;
+
+/** 마이페이지(북마크/좋아요) 목록용 프로젝션. interactionAt = 북마크/좋아요 시각 */
+public record InteractedPostRow(Long postId,
+                                String title,
+                                String region,
+                                Category category,
+                                LocalDateTime crawledAt,
+                                Integer views,
+                                LocalDateTime interactionAt) {}
@@ -0,0 +1,9 @@
+package org.likelionhsu.backend.post.repository;
+
+/** 게시글별 집계(좋아요/댓글 수)를 IN + GROUP BY 한 번으로 읽기 위한 프로젝션 */
+public interface PostCount {
+
+    Long getPostId();
+
+    Long getCount();
+}
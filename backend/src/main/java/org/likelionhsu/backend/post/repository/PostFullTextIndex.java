@@ -0,0 +1,136 @@
+package org.likelionhsu.backend.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * post 본문 검색용 FULLTEXT(ngram) 인덱스 관리
+ *  - post 테이블은 크롤러가 만들고 ddl-auto 는 FULLTEXT 를 모르므로, 백엔드가 기동 시 없으면 만든다
+ *  - ngram 파서(ngram_token_size 기본 2)는 한국어를 2글자 단위로 색인해 형태소 분석 없이 부분 일치가 된다
+ *  - 제목 가중치를 위해 title 단독 인덱스도 둔다 (MATCH 컬럼 목록이 인덱스와 정확히 같아야 함)
+ *  - 기존 행이 많으면 생성에 시간이 걸리므로 별도 스레드에서 만들고, 끝나기 전에는 LIKE 검색으로 대체된다
+ *  - 생성은 MySQL 이름 락(GET_LOCK)을 잡은 한 노드만 한다. 락을 못 잡았거나 실패한 노드는 주기적으로 다시 확인해
+ *    다른 노드가 만든 인덱스를 재기동 없이 쓰기 시작한다 (기동 시 일시적 DB 오류도 같은 경로로 회복)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFullTextIndex {
+
+    static final String TITLE_INDEX = "FT_post_title";
+    static final String TITLE_CONTENT_INDEX = "FT_post_title_content";
+    private static final String DDL_LOCK = "post_fulltext_ddl";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${post.search.fulltext.enabled:true}")
+    private boolean enabled;
+
+    /** false 면 인덱스가 이미 있을 때만 사용하고 직접 만들지는 않는다 (운영 DB 에서 수동 관리할 때) */
+    @Value("${post.search.fulltext.auto-create:true}")
+    private boolean autoCreate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) return;
+        Thread.ofPlatform().daemon().name("post-fulltext-init").start(this::ensure);
+    }
+
+    /** 아직 쓸 수 없으면 다시 확인 (다른 노드가 만드는 중이었거나 기동 시 실패한 경우) */
+    @Scheduled(fixedDelayString = "${post.search.fulltext.recheck-ms:60000}",
+            initialDelayString = "${post.search.fulltext.recheck-ms:60000}")
+    public void recheck() {
+        if (enabled && !available) ensure();
+    }
+
+    /** 두 인덱스가 모두 있을 때만 true */
+    public boolean isAvailable() {
+        return enabled && available;
+    }
+
+    void ensure() {
+        if (!running.compareAndSet(false, true)) return;
+        long t0 = System.currentTimeMillis();
+        try {
+            boolean created = autoCreate && !bothExist() && createUnderLock();
+            available = bothExist();
+            if (created) {
+                log.info("[post-search] fulltext index ready={} {}ms", available, System.currentTimeMillis() - t0);
+            }
+        } catch (Exception e) {
+            // 다른 노드가 같은 이름으로 먼저 만들었으면(Duplicate key name) 이미 쓸 수 있다
+            available = existsQuietly();
+            log.warn("[post-search] fulltext index ensure failed (available={}, LIKE fallback until re-check): {}",
+                    available, e.toString());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** DDL 은 락을 잡은 노드만. 락은 이 커넥션에 묶여 있어 노드가 죽으면 MySQL 이 풀어 준다 */
+    private boolean createUnderLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            if (!namedLock(con, "SELECT GET_LOCK(?, 0)")) {
+                log.info("[post-search] fulltext index is being created by another node, re-check later");
+                return false;
+            }
+            try {
+                return ensure(TITLE_INDEX, "title") | ensure(TITLE_CONTENT_INDEX, "title, content");
+            } finally {
+                namedLock(con, "SELECT RELEASE_LOCK(?)");
+            }
+        }));
+    }
+
+    private static boolean namedLock(Connection con, String sql) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            ps.setString(1, DDL_LOCK);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private boolean bothExist() {
+        return exists(TITLE_INDEX) && exists(TITLE_CONTENT_INDEX);
+    }
+
+    private boolean existsQuietly() {
+        try {
+            return bothExist();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean ensure(String name, String columns) {
+        if (exists(name)) return false;
+        log.info("[post-search] creating fulltext index {} ({})", name, columns);
+        jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX " + name + " (" + columns + ") WITH PARSER ngram");
+        return true;
+    }
+
+    private boolean exists(String name) {
+        Integer n = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?
+                """, Integer.class, name);
+        return n != null && n > 0;
+    }
+}
@@ -0,0 +1,14 @@
+package org.likelionhsu.backend.post.repository;
+
+import org.likelionhsu.backend.post.domain.Category;
+
+import java.time.LocalDateTime;
+
+/** 목록/피드용 프로젝션. content(MEDIUMTEXT) 없이 목록에 필요한 컬럼만 읽는다 */
+public record PostListRow(Long id,
+                          String title,
+                          String pubDate,
+                          String region,
+                          Category category,
+                          Integer views,
+                          LocalDateTime publishedAt) {}
@@ -0,0 +1,172 @@
+package org.likelionhsu.backend.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.post.cache.PostScope;
+import org.likelionhsu.backend.post.cache.PostsChangedEvent;
+import org.likelionhsu.backend.post.domain.Category;
+import org.likelionhsu.backend.post.domain.PubDates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * post.published_at 채우기 (pub_date 문자열 → DATETIME, 규칙은 PubDates)
+ *  - 크롤러는 published_at 을 모르고 INSERT/UPSERT 하므로 백엔드가 채운다 (네이버 뉴스 수집은 넣을 때 직접 채움)
+ *  - 크롤 직후: 이번 크롤에서 쓰인 행(crawled_at >= 크롤 전 MAX)을 다시 계산. 재수집으로 pub_date 가 바뀐 행도 여기서 맞춰진다.
+ *    캐시 무효화(PostResponseCache)보다 먼저 돌아야 새 목록 캐시에 게시 시각 없는 행이 빠진 채 저장되지 않는다
+ *  - 기동 시 / 주기적으로: published_at 이 null 인 행을 id 순으로 채운다 (기존 데이터, 크롤 제한 시간 뒤에 쓰인 행)
+ *  - 해석할 수 없는 pub_date 는 crawled_at 으로 채워 다시 조회되지 않게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPublishedAtBackfill {
+
+    private static final String MISSING_SQL = """
+            SELECT id, pub_date, crawled_at, published_at, region, category
+            FROM post
+            WHERE published_at IS NULL AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String CRAWLED_SQL = """
+            SELECT id, pub_date, crawled_at, published_at, region, category
+            FROM post
+            WHERE crawled_at >= ? AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String UPDATE_SQL = "UPDATE post SET published_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${post.published-at.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post.published-at.backfill.page-size:1000}")
+    private int pageSize;
+
+    /** 주기 실행 1회당 최대 페이지 수 (기존 데이터 전체는 기동 시 별도 스레드에서) */
+    @Value("${post.published-at.backfill.max-pages:20}")
+    private int maxPages;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) return;
+        Thread.ofPlatform().daemon().name("post-published-at-init").start(() -> {
+            long t0 = System.currentTimeMillis();
+            Set<PostScope> scopes = fillMissing(Integer.MAX_VALUE);
+            if (scopes == null) return;
+            if (!scopes.isEmpty()) {
+                log.info("[post-published-at] backfilled scopes={} {}ms", scopes.size(), System.currentTimeMillis() - t0);
+                // 기동 전 캐시된 목록에는 게시 시각 없는 행이 빠져 있었으므로 전체 무효화
+                eventPublisher.publishEvent(PostsChangedEvent.inserted(Set.of()));
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${post.published-at.backfill.interval-ms:300000}",
+            initialDelayString = "${post.published-at.backfill.initial-delay-ms:300000}")
+    public void backfill() {
+        if (!enabled) return;
+        Set<PostScope> scopes = fillMissing(Math.max(1, maxPages));
+        if (scopes != null && !scopes.isEmpty()) eventPublisher.publishEvent(PostsChangedEvent.inserted(scopes));
+    }
+
+    /** 크롤 직후 변경분 반영. 캐시 무효화 리스너보다 먼저 실행 */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (!enabled || event.crawledAfter() == null) return;
+        try {
+            int updated = fill(CRAWLED_SQL, Timestamp.valueOf(event.crawledAfter()), Integer.MAX_VALUE, new HashSet<>());
+            if (updated > 0) log.info("[post-published-at] crawled rows updated={}", updated);
+        } catch (Exception e) {
+            log.warn("[post-published-at] crawl backfill failed: {}", e.toString());
+        }
+    }
+
+    /** @return 채운 행의 범위, 이미 실행 중이거나 실패하면 null */
+    private Set<PostScope> fillMissing(int pages) {
+        if (!running.compareAndSet(false, true)) return null;
+        try {
+            Set<PostScope> scopes = new HashSet<>();
+            fill(MISSING_SQL, null, pages, scopes);
+            return scopes;
+        } catch (Exception e) {
+            log.warn("[post-published-at] backfill failed: {}", e.toString());
+            return null;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** id keyset 페이지로 읽어 값이 달라진 행만 갱신. @return 갱신한 행 수 */
+    private int fill(String sql, Timestamp crawledAfter, int pages, Set<PostScope> scopes) {
+        int size = Math.max(100, pageSize);
+        long cursorId = 0;
+        int updated = 0;
+        for (int page = 0; page < pages; page++) {
+            Object[] args = crawledAfter == null
+                    ? new Object[]{cursorId, size}
+                    : new Object[]{crawledAfter, cursorId, size};
+            List<Row> rows = jdbcTemplate.query(sql, (rs, i) -> new Row(
+                    rs.getLong("id"),
+                    rs.getString("pub_date"),
+                    toLocalDateTime(rs.getTimestamp("crawled_at")),
+                    toLocalDateTime(rs.getTimestamp("published_at")),
+                    rs.getString("region"),
+                    rs.getString("category")), args);
+            if (rows.isEmpty()) break;
+
+            List<Object[]> batch = new ArrayList<>();
+            for (Row r : rows) {
+                LocalDateTime value = PubDates.publishedAt(r.pubDate(), r.crawledAt());
+                if (value == null || Objects.equals(value, r.publishedAt())) continue;
+                batch.add(new Object[]{Timestamp.valueOf(value), r.id()});
+                scopes.add(new PostScope(r.region(), category(r.category())));
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+                updated += batch.size();
+            }
+            cursorId = rows.get(rows.size() - 1).id();
+            if (rows.size() < size) break;
+        }
+        return updated;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp t) {
+        return t == null ? null : t.toLocalDateTime();
+    }
+
+    private static Category category(String name) {
+        try {
+            return name == null ? null : Category.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return Category.UNKNOWN;
+        }
+    }
+
+    private record Row(long id, String pubDate, LocalDateTime crawledAt, LocalDateTime publishedAt,
+                       String region, String category) {}
+}
@@ -1,8 +1,32 @@
 package org.likelionhsu.backend.post.repository;
 
+import org.likelionhsu.backend.post.cache.PostScope;
 import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.domain.SourceType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostRepositoryCustom {
+
+    /** 외부 소스 중복 확인용: 이미 저장된 externalId 만 돌려준다 */
+    @Query("select p.externalId from Post p where p.sourceType = :sourceType and p.externalId in :externalIds")
+    List<String> findExistingExternalIds(@Param("sourceType") SourceType sourceType,
+                                         @Param("externalIds") Collection<String> externalIds);
+
+    /** 가장 늦은 crawled_at. 크롤 전에 읽어 두고 이후 변경분 판정 기준으로 쓴다 (크롤러 시계 기준 값) */
+    @Query("select max(p.crawledAt) from Post p")
+    LocalDateTime findMaxCrawledAt();
+
+    /** 이 시각 이후 추가/수정된 글의 (지역, 카테고리) 범위 */
+    @Query("select distinct new org.likelionhsu.backend.post.cache.PostScope(p.region, p.category) from Post p where p.crawledAt >= :since")
+    List<PostScope> findScopesCrawledAfter(@Param("since") LocalDateTime since);
+
+    @Query("select p.id from Post p where p.crawledAt >= :since")
+    List<Long> findIdsCrawledAfter(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,39 @@
+package org.likelionhsu.backend.post.repository;
+
+import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.search.PostSearchFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/** JPA 로 표현하기 어려운 대량 처리용 (PostRepositoryImpl, JdbcTemplate) */
+public interface PostRepositoryCustom {
+
+    /**
+     * 배치 INSERT. (source_type, external_id)(UK_post_source_external_id) 나 link(크롤러 DDL 의 UK_post_link) 가
+     * 이미 있는 행은 건너뛰고, 그 밖의 오류(잘림 등)는 그대로 던진다.
+     * IDENTITY 키라 JPA saveAll 은 행마다 INSERT 되므로 JDBC 배치로 넣는다.
+     * @return 추가된 행 수 (넣기 전 기존 external_id 기준. 다른 노드와 동시에 넣은 행은 양쪽에서 셀 수 있다)
+     */
+    int insertIgnoringDuplicates(List<Post> posts);
+
+    /**
+     * FULLTEXT(ngram) 검색. 관련도(제목 가중) × 최신성 감쇠 순으로 id 만 돌려준다.
+     * @param booleanQuery MATCH ... AGAINST 의 BOOLEAN MODE 질의 (PostSearchService 가 만든다)
+     */
+    List<Long> searchFullText(String booleanQuery, PostSearchFilter filter, int limit);
+
+    /**
+     * Specification 조건으로 목록 컬럼만 조회 (엔티티/본문 로딩 없음).
+     * @param offset 건너뛸 행 수 (keyset 피드는 0)
+     */
+    List<PostListRow> findListRows(Specification<Post> spec, Sort sort, long offset, int limit);
+
+    /**
+     * 조회수 일괄 반영 (views = views + delta). 게시글 id → 증가분
+     * @return 갱신된 행 수
+     */
+    int addViews(Map<Long, Long> deltas);
+}
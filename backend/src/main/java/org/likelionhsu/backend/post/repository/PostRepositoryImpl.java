@@ -0,0 +1,204 @@
+package org.likelionhsu.backend.post.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.domain.SourceType;
+import org.likelionhsu.backend.post.search.PostSearchFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    /**
+     * 키 충돌(UK_post_source_external_id, 크롤러 DDL 의 UK_post_link)만 건너뛴다.
+     * INSERT IGNORE 와 달리 잘림/strict 모드 오류는 경고로 바뀌지 않고 그대로 실패한다.
+     */
+    private static final String INSERT_SKIP_DUPLICATE_SQL = """
+            INSERT INTO post
+                (title, content, link, pub_date, published_at, region, category, department, views, crawled_at, source_type, external_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+    private static final String EXISTING_EXTERNAL_IDS_SQL =
+            "SELECT COUNT(*) FROM post WHERE source_type = ? AND external_id IN (%s)";
+
+    /**
+     * 안쪽: FULLTEXT 관련도 상위 후보만 (MATCH 정렬 + LIMIT 은 인덱스 결과 위에서 끝난다)
+     * 바깥: 제목 가중치와 최신성 감쇠로 다시 정렬. 게시 시각(아직 채워지지 않았으면 수집 시각)이 없는 행은 오래된 글로 본다
+     */
+    private static final String FULLTEXT_SQL = """
+            SELECT c.id FROM (
+                SELECT p.id, COALESCE(p.published_at, p.crawled_at) AS published_at,
+                       MATCH(p.title) AGAINST (? IN BOOLEAN MODE) AS title_score,
+                       MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE) AS score
+                FROM post p
+                WHERE MATCH(p.title, p.content) AGAINST (? IN BOOLEAN MODE)%s
+                ORDER BY score DESC
+                LIMIT ?
+            ) c
+            ORDER BY (c.title_score * ? + c.score)
+                     / (1 + IFNULL(GREATEST(TIMESTAMPDIFF(DAY, c.published_at, NOW()), 0), 365) / ?) DESC,
+                     c.id DESC
+            LIMIT ?
+            """;
+
+    private static final String ADD_VIEWS_SQL = "UPDATE post SET views = COALESCE(views, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${post.search.title-boost:2.0}")
+    private double titleBoost;
+
+    /** 이 일수만큼 지난 글은 관련도가 절반으로 */
+    @Value("${post.search.recency-half-days:30}")
+    private double recencyHalfDays;
+
+    /** 재정렬 전 관련도 상위 후보 수 = max(limit × 배수, 200) */
+    @Value("${post.search.fulltext.candidate-factor:20}")
+    private int candidateFactor;
+
+    @Override
+    public int insertIgnoringDuplicates(List<Post> posts) {
+        if (posts == null || posts.isEmpty()) return 0;
+        // 드라이버 기본값(CLIENT_FOUND_ROWS)에서는 건너뛴 중복도 1 로 세므로 추가 건수는 넣기 전 기존 키 수로 계산
+        int existing = countExistingExternalIds(posts);
+        jdbcTemplate.batchUpdate(INSERT_SKIP_DUPLICATE_SQL, posts, 100, (ps, p) -> {
+            ps.setString(1, p.getTitle());
+            ps.setString(2, p.getContent());
+            ps.setString(3, p.getLink());
+            ps.setString(4, p.getPubDate());
+            if (p.getPublishedAt() == null) ps.setNull(5, Types.TIMESTAMP);
+            else ps.setTimestamp(5, Timestamp.valueOf(p.getPublishedAt()));
+            ps.setString(6, p.getRegion());
+            ps.setString(7, p.getCategory().name());
+            ps.setString(8, p.getDepartment());
+            ps.setInt(9, p.getViews() == null ? 0 : p.getViews());
+            ps.setTimestamp(10, Timestamp.valueOf(p.getCrawledAt()));
+            ps.setString(11, p.getSourceType().name());
+            if (p.getExternalId() == null) ps.setNull(12, Types.VARCHAR);
+            else ps.setString(12, p.getExternalId());
+        });
+        return Math.max(0, posts.size() - existing);
+    }
+
+    /** (source_type, external_id) 가 이미 있는 행 수. 같은 배치 안의 중복 키도 하나만 들어가므로 기존 것으로 센다 */
+    private int countExistingExternalIds(List<Post> posts) {
+        Map<SourceType, Set<String>> bySource = new EnumMap<>(SourceType.class);
+        int repeated = 0;
+        for (Post p : posts) {
+            if (p.getSourceType() == null || p.getExternalId() == null) continue;
+            if (!bySource.computeIfAbsent(p.getSourceType(), k -> new HashSet<>()).add(p.getExternalId())) repeated++;
+        }
+        int existing = repeated;
+        for (Map.Entry<SourceType, Set<String>> e : bySource.entrySet()) {
+            List<String> ids = List.copyOf(e.getValue());
+            for (int i = 0; i < ids.size(); i += 500) {
+                List<String> chunk = ids.subList(i, Math.min(ids.size(), i + 500));
+                List<Object> args = new ArrayList<>(chunk.size() + 1);
+                args.add(e.getKey().name());
+                args.addAll(chunk);
+                Integer n = jdbcTemplate.queryForObject(
+                        EXISTING_EXTERNAL_IDS_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?"))),
+                        Integer.class, args.toArray());
+                if (n != null) existing += n;
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Long> searchFullText(String booleanQuery, PostSearchFilter filter, int limit) {
+        List<Object> args = new ArrayList<>(List.of(booleanQuery, booleanQuery, booleanQuery));
+        StringBuilder where = new StringBuilder();
+        if (filter != null && filter.regionOrNull() != null) {
+            where.append(" AND p.region IN (?, ?)");
+            args.add(filter.regionOrNull());
+            args.add(PostSearchFilter.CITY_WIDE);
+        }
+        if (filter != null && filter.category() != null) {
+            where.append(" AND p.category = ?");
+            args.add(filter.category().name());
+        }
+        if (filter != null && filter.sourceType() != null) {
+            where.append(" AND p.source_type = ?");
+            args.add(filter.sourceType().name());
+        }
+        if (filter != null && filter.excludeSourceType() != null) {
+            where.append(" AND (p.source_type IS NULL OR p.source_type <> ?)");
+            args.add(filter.excludeSourceType().name());
+        }
+        if (filter != null && filter.publishedAfter() != null) {
+            where.append(" AND COALESCE(p.published_at, p.crawled_at) >= ?");
+            args.add(Timestamp.valueOf(filter.publishedAfter()));
+        }
+        if (filter != null && filter.publishedBefore() != null) {
+            where.append(" AND COALESCE(p.published_at, p.crawled_at) < ?");
+            args.add(Timestamp.valueOf(filter.publishedBefore()));
+        }
+        int n = Math.max(1, limit);
+        args.add(Math.max(n * Math.max(1, candidateFactor), 200));
+        args.add(titleBoost);
+        args.add(Math.max(1.0, recencyHalfDays));
+        args.add(n);
+        return jdbcTemplate.queryForList(FULLTEXT_SQL.formatted(where), Long.class, args.toArray());
+    }
+
+    @Override
+    public List<PostListRow> findListRows(Specification<Post> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PostListRow> query = cb.createQuery(PostListRow.class);
+        Root<Post> root = query.from(Post.class);
+        query.select(cb.construct(PostListRow.class,
+                root.get("id"), root.get("title"), root.get("pubDate"),
+                root.get("region"), root.get("category"), root.get("views"), root.get("publishedAt")));
+        if (spec != null) {
+            Predicate where = spec.toPredicate(root, query, cb);
+            if (where != null) query.where(where);
+        }
+        if (sort != null && sort.isSorted()) query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) Math.min(Integer.MAX_VALUE, Math.max(0, offset)))
+                .setMaxResults(Math.max(1, limit))
+                .getResultList();
+    }
+
+    @Override
+    public int addViews(Map<Long, Long> deltas) {
+        if (deltas == null || deltas.isEmpty()) return 0;
+        List<Map.Entry<Long, Long>> rows = List.copyOf(deltas.entrySet());
+        int[][] counts = jdbcTemplate.batchUpdate(ADD_VIEWS_SQL, rows, 200, (ps, e) -> {
+            ps.setLong(1, e.getValue());
+            ps.setLong(2, e.getKey());
+        });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int c : batch) {
+                if (c > 0) updated += c;
+            }
+        }
+        return updated;
+    }
+}
@@ -2,8 +2,11 @@ package org.likelionhsu.backend.post.repository;
 
 import org.likelionhsu.backend.post.domain.Category;
 import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.domain.SourceType;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+
 public class PostSpecification {
 
     public static Specification<Post> hasRegion(String region) {
@@ -24,6 +27,14 @@ public class PostSpecification {
         };
     }
 
+    /** 지역 정확히 일치 ("서산시 전체" 포함 규칙 없음). 피드에서 지역별 keyset 을 따로 읽을 때 */
+    public static Specification<Post> regionEquals(String region) {
+        return (root, query, cb) -> {
+            if (region == null || region.trim().isEmpty()) return null;
+            return cb.equal(root.get("region"), region);
+        };
+    }
+
     public static Specification<Post> hasCategory(Category category) {
         return (root, query, criteriaBuilder) -> {
             if (category == null) {
@@ -43,4 +54,54 @@ public class PostSpecification {
             );
         };
     }
+
+    public static Specification<Post> hasSourceType(SourceType sourceType) {
+        return (root, query, cb) -> {
+            if (sourceType == null) return null;
+            return cb.equal(root.get("sourceType"), sourceType);
+        };
+    }
+
+    /** 크롤러가 source_type 없이 넣은 행도 있으므로 null 은 제외 대상이 아님 */
+    public static Specification<Post> notSourceType(SourceType sourceType) {
+        return (root, query, cb) -> {
+            if (sourceType == null) return null;
+            return cb.or(
+                    cb.isNull(root.get("sourceType")),
+                    cb.notEqual(root.get("sourceType"), sourceType)
+            );
+        };
+    }
+
+    /** 게시 시각 [from, to) 범위 (published_at 인덱스 범위 조회). 양쪽 다 null 이면 조건 없음 */
+    public static Specification<Post> publishedBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            if (from == null && to == null) return null;
+            if (to == null) return cb.greaterThanOrEqualTo(root.get("publishedAt"), from);
+            if (from == null) return cb.lessThan(root.get("publishedAt"), to);
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("publishedAt"), from),
+                    cb.lessThan(root.get("publishedAt"), to)
+            );
+        };
+    }
+
+    /** 게시 시각이 채워진 글만 (크롤러가 막 넣고 아직 백필 전인 행 제외. keyset 커서에 null 이 들어가지 않도록) */
+    public static Specification<Post> hasPublishedAt() {
+        return (root, query, cb) -> cb.isNotNull(root.get("publishedAt"));
+    }
+
+    /** 피드 keyset: (publishedAt, id) 내림차순에서 커서 다음 행들 */
+    public static Specification<Post> before(LocalDateTime publishedAt, Long id) {
+        return (root, query, cb) -> {
+            if (publishedAt == null || id == null) return null;
+            return cb.or(
+                    cb.lessThan(root.get("publishedAt"), publishedAt),
+                    cb.and(
+                            cb.equal(root.get("publishedAt"), publishedAt),
+                            cb.lessThan(root.get("id"), id)
+                    )
+            );
+        };
+    }
 }
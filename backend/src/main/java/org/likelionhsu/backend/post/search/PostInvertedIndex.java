@@ -0,0 +1,407 @@
+package org.likelionhsu.backend.post.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 게시글 역색인 (BM25F, 제목/본문 필드 가중)
+ *  - 문서는 추가 순서대로 ordinal 을 받고, 메타데이터(게시글 id, 필드 길이, 수집 시각, 지역/카테고리/소스)는 원시 배열에 둔다
+ *  - posting 은 용어마다 ordinal 배열 + (제목 tf << 16 | 본문 tf) 배열. 본문 텍스트는 들고 있지 않는다
+ *  - 같은 게시글이 다시 들어오면(재수집) 이전 ordinal 은 삭제 표시만 하고 새로 추가한다
+ *  - 지역/카테고리/소스/수집 시각 필터는 점수 누적 중에 적용한다
+ * 쓰기와 읽기의 동기화는 호출자(PostSearchIndex)가 맡는다.
+ */
+final class PostInvertedIndex {
+
+    static final int FORMAT_VERSION = 2;
+
+    private static final float K1 = 1.2f;
+    private static final float B_TITLE = 0.5f;
+    private static final float B_CONTENT = 0.75f;
+    private static final int TF_MAX = 0xFFFF;
+
+    /**
+     * 색인할 필드 (검색 결과는 id 만 돌려주고 엔티티는 DB 에서 읽는다)
+     * crawledAt 은 증분 갱신 기준, publishedAt 은 최신성/기간 조건 기준 (게시일을 모르면 수집 시각)
+     */
+    record Document(long postId, String title, String content, String region, String category,
+                    String sourceType, LocalDateTime crawledAt, LocalDateTime publishedAt) {}
+
+    /* ---------- terms ---------- */
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private int[][] postingDocs = new int[1024][];
+    private int[][] postingTfs = new int[1024][];
+    private int[] postingSize = new int[1024];
+    private int termCount;
+
+    /* ---------- documents ---------- */
+    private long[] postIds = new long[1024];
+    private int[] titleLen = new int[1024];
+    private int[] contentLen = new int[1024];
+    private long[] crawledAt = new long[1024];
+    private long[] publishedAt = new long[1024];
+    private short[] region = new short[1024];
+    private byte[] category = new byte[1024];
+    private byte[] sourceType = new byte[1024];
+    private int docCount;
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> ordinalByPostId = new HashMap<>();
+    private long totalTitleLen;
+    private long totalContentLen;
+
+    private final Dictionary regions = new Dictionary();
+    private final Dictionary categories = new Dictionary();
+    private final Dictionary sourceTypes = new Dictionary();
+
+    /** 지금까지 색인한 가장 늦은 수집 시각 (증분 갱신 기준) */
+    private LocalDateTime watermark;
+
+    private final int maxContentChars;
+
+    PostInvertedIndex(int maxContentChars) {
+        this.maxContentChars = maxContentChars;
+    }
+
+    /* ========================= write ========================= */
+
+    /** @return 실제로 색인했으면 true (같은 수집 시각으로 이미 들어 있으면 false) */
+    boolean add(Document doc) {
+        long crawledSec = epoch(doc.crawledAt());
+        Integer prev = ordinalByPostId.get(doc.postId());
+        if (prev != null) {
+            if (crawledAt[prev] == crawledSec) return false;
+            remove(prev);
+        }
+        if (doc.crawledAt() != null && (watermark == null || doc.crawledAt().isAfter(watermark))) {
+            watermark = doc.crawledAt();
+        }
+
+        int ord = docCount++;
+        ensureDocCapacity(docCount);
+        List<String> title = PostTokenizer.tokens(doc.title(), Integer.MAX_VALUE);
+        List<String> content = PostTokenizer.tokens(doc.content(), maxContentChars);
+
+        Map<String, int[]> tf = new HashMap<>();
+        for (String t : title) tf.computeIfAbsent(t, k -> new int[2])[0]++;
+        for (String t : content) tf.computeIfAbsent(t, k -> new int[2])[1]++;
+        for (Map.Entry<String, int[]> e : tf.entrySet()) {
+            int[] c = e.getValue();
+            append(termId(e.getKey()), ord, Math.min(c[0], TF_MAX) << 16 | Math.min(c[1], TF_MAX));
+        }
+
+        postIds[ord] = doc.postId();
+        titleLen[ord] = title.size();
+        contentLen[ord] = content.size();
+        crawledAt[ord] = crawledSec;
+        publishedAt[ord] = epoch(doc.publishedAt());
+        region[ord] = (short) regions.id(doc.region());
+        category[ord] = (byte) categories.id(doc.category());
+        sourceType[ord] = (byte) sourceTypes.id(doc.sourceType());
+        ordinalByPostId.put(doc.postId(), ord);
+        totalTitleLen += title.size();
+        totalContentLen += content.size();
+        return true;
+    }
+
+    /** DB 에서 사라진 게시글 삭제 표시. @return 색인에 살아 있었으면 true */
+    boolean delete(long postId) {
+        Integer ord = ordinalByPostId.get(postId);
+        if (ord == null) return false;
+        remove(ord);
+        return true;
+    }
+
+    private void remove(int ord) {
+        deleted.set(ord);
+        ordinalByPostId.remove(postIds[ord]);
+        totalTitleLen -= titleLen[ord];
+        totalContentLen -= contentLen[ord];
+    }
+
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id != null) return id;
+        int nid = termCount++;
+        if (nid == postingDocs.length) {
+            int cap = nid * 2;
+            postingDocs = Arrays.copyOf(postingDocs, cap);
+            postingTfs = Arrays.copyOf(postingTfs, cap);
+            postingSize = Arrays.copyOf(postingSize, cap);
+        }
+        postingDocs[nid] = new int[4];
+        postingTfs[nid] = new int[4];
+        termIds.put(term, nid);
+        return nid;
+    }
+
+    private void append(int term, int ord, int packedTf) {
+        int size = postingSize[term];
+        if (size == postingDocs[term].length) {
+            int cap = size + (size >> 1) + 1;
+            postingDocs[term] = Arrays.copyOf(postingDocs[term], cap);
+            postingTfs[term] = Arrays.copyOf(postingTfs[term], cap);
+        }
+        postingDocs[term][size] = ord;
+        postingTfs[term][size] = packedTf;
+        postingSize[term] = size + 1;
+    }
+
+    private void ensureDocCapacity(int n) {
+        if (n <= postIds.length) return;
+        int cap = Math.max(n, postIds.length * 2);
+        postIds = Arrays.copyOf(postIds, cap);
+        titleLen = Arrays.copyOf(titleLen, cap);
+        contentLen = Arrays.copyOf(contentLen, cap);
+        crawledAt = Arrays.copyOf(crawledAt, cap);
+        publishedAt = Arrays.copyOf(publishedAt, cap);
+        region = Arrays.copyOf(region, cap);
+        category = Arrays.copyOf(category, cap);
+        sourceType = Arrays.copyOf(sourceType, cap);
+    }
+
+    /* ========================= read ========================= */
+
+    /**
+     * BM25F 점수 × 최신성 감쇠(1 / (1 + 경과일 / recencyHalfDays)) 상위 limit 개의 게시글 id
+     * @param titleBoost 제목 tf 가중치 (본문 = 1)
+     */
+    List<Long> search(String query, PostSearchFilter filter, int limit, float titleBoost, double recencyHalfDays) {
+        int live = liveDocs();
+        if (live == 0 || limit <= 0) return List.of();
+        Matcher matcher = new Matcher(filter);
+        if (matcher.impossible) return List.of();
+
+        float avgTitle = Math.max(1f, (float) totalTitleLen / live);
+        float avgContent = Math.max(1f, (float) totalContentLen / live);
+        float[] scores = new float[docCount];
+        int[] touched = new int[64];
+        int touchedCount = 0;
+
+        for (String term : new LinkedHashSet<>(PostTokenizer.tokens(query, Integer.MAX_VALUE))) {
+            Integer id = termIds.get(term);
+            if (id == null) continue;
+            int df = postingSize[id];
+            float idf = (float) Math.log(1 + (Math.max(0, live - df) + 0.5) / (df + 0.5)); // df 는 삭제 표시된 posting 포함
+            int[] docs = postingDocs[id];
+            int[] tfs = postingTfs[id];
+            for (int i = 0; i < df; i++) {
+                int ord = docs[i];
+                if (deleted.get(ord) || !matcher.test(ord)) continue;
+                float tfTitle = tfs[i] >>> 16;
+                float tfContent = tfs[i] & TF_MAX;
+                float tf = titleBoost * tfTitle / (1 - B_TITLE + B_TITLE * titleLen[ord] / avgTitle)
+                        + tfContent / (1 - B_CONTENT + B_CONTENT * contentLen[ord] / avgContent);
+                if (tf <= 0) continue;
+                if (scores[ord] == 0) {
+                    if (touchedCount == touched.length) touched = Arrays.copyOf(touched, touchedCount * 2);
+                    touched[touchedCount++] = ord;
+                }
+                scores[ord] += idf * tf / (K1 + tf);
+            }
+        }
+
+        long now = epoch(LocalDateTime.now());
+        double halfDays = Math.max(1.0, recencyHalfDays);
+        PriorityQueue<float[]> top = new PriorityQueue<>(limit + 1, (a, b) -> Float.compare(a[0], b[0]));
+        for (int i = 0; i < touchedCount; i++) {
+            int ord = touched[i];
+            double ageDays = publishedAt[ord] == 0 ? 365 : Math.max(0, now - publishedAt[ord]) / 86_400.0;
+            float score = (float) (scores[ord] / (1 + ageDays / halfDays));
+            if (top.size() < limit) {
+                top.add(new float[]{score, ord});
+            } else if (score > top.peek()[0]) {
+                top.poll();
+                top.add(new float[]{score, ord});
+            }
+        }
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) ids.add(postIds[(int) top.poll()[1]]);
+        return ids.reversed();
+    }
+
+    /** 살아 있는 게시글 id (DB 와의 정합 확인용, 순서 없음) */
+    long[] livePostIds() {
+        long[] ids = new long[ordinalByPostId.size()];
+        int i = 0;
+        for (Long id : ordinalByPostId.keySet()) ids[i++] = id;
+        return ids;
+    }
+
+    int liveDocs() {
+        return docCount - deleted.cardinality();
+    }
+
+    int deletedDocs() {
+        return deleted.cardinality();
+    }
+
+    int termCount() {
+        return termCount;
+    }
+
+    LocalDateTime watermark() {
+        return watermark;
+    }
+
+    /** 필터 값을 사전 id 로 바꿔 두고 ordinal 단위로 비교 (-1 = 사전에 없는 값) */
+    private final class Matcher {
+        private final boolean byRegion;
+        private final int regionId;
+        private final int cityWideId;
+        private final int categoryId;
+        private final int sourceId;
+        private final int excludeSourceId;
+        private final long publishedAfter;
+        private final long publishedBefore;
+        private final boolean impossible;
+
+        Matcher(PostSearchFilter f) {
+            String r = f == null ? null : f.regionOrNull();
+            byRegion = r != null;
+            regionId = byRegion ? regions.find(r) : -1;
+            cityWideId = byRegion ? regions.find(PostSearchFilter.CITY_WIDE) : -1;
+            categoryId = f == null || f.category() == null ? 0 : categories.find(f.category().name());
+            sourceId = f == null || f.sourceType() == null ? 0 : sourceTypes.find(f.sourceType().name());
+            excludeSourceId = f == null || f.excludeSourceType() == null ? 0 : sourceTypes.find(f.excludeSourceType().name());
+            publishedAfter = f == null || f.publishedAfter() == null ? Long.MIN_VALUE : epoch(f.publishedAfter());
+            publishedBefore = f == null || f.publishedBefore() == null ? Long.MAX_VALUE : epoch(f.publishedBefore());
+            // 사전에 없는 값으로 거르면 맞는 문서가 없다 (제외 조건은 해당 없음)
+            impossible = (byRegion && regionId < 0 && cityWideId < 0) || categoryId < 0 || sourceId < 0;
+        }
+
+        boolean test(int ord) {
+            if (byRegion && region[ord] != regionId && region[ord] != cityWideId) return false;
+            if (categoryId > 0 && category[ord] != categoryId) return false;
+            if (sourceId > 0 && sourceType[ord] != sourceId) return false;
+            if (excludeSourceId > 0 && sourceType[ord] == excludeSourceId) return false;
+            return publishedAt[ord] >= publishedAfter && publishedAt[ord] < publishedBefore;
+        }
+    }
+
+    /* ========================= snapshot ========================= */
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(maxContentChars);
+        out.writeLong(watermark == null ? Long.MIN_VALUE : epoch(watermark));
+        regions.writeTo(out);
+        categories.writeTo(out);
+        sourceTypes.writeTo(out);
+
+        out.writeInt(docCount);
+        for (int i = 0; i < docCount; i++) {
+            out.writeLong(postIds[i]);
+            out.writeInt(titleLen[i]);
+            out.writeInt(contentLen[i]);
+            out.writeLong(crawledAt[i]);
+            out.writeLong(publishedAt[i]);
+            out.writeShort(region[i]);
+            out.writeByte(category[i]);
+            out.writeByte(sourceType[i]);
+            out.writeBoolean(deleted.get(i));
+        }
+
+        out.writeInt(termCount);
+        String[] terms = new String[termCount];
+        termIds.forEach((t, id) -> terms[id] = t);
+        for (int id = 0; id < termCount; id++) {
+            out.writeUTF(terms[id]);
+            int size = postingSize[id];
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeInt(postingDocs[id][i]);
+                out.writeInt(postingTfs[id][i]);
+            }
+        }
+    }
+
+    /** 형식 버전이나 본문 색인 길이 설정이 다르면 null (다시 빌드) */
+    static PostInvertedIndex readFrom(DataInputStream in, int maxContentChars) throws IOException {
+        if (in.readInt() != FORMAT_VERSION || in.readInt() != maxContentChars) return null;
+        PostInvertedIndex idx = new PostInvertedIndex(maxContentChars);
+        long wm = in.readLong();
+        idx.watermark = wm == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(wm, 0, ZoneOffset.UTC);
+        idx.regions.readFrom(in);
+        idx.categories.readFrom(in);
+        idx.sourceTypes.readFrom(in);
+
+        int docs = in.readInt();
+        idx.ensureDocCapacity(docs);
+        idx.docCount = docs;
+        for (int i = 0; i < docs; i++) {
+            idx.postIds[i] = in.readLong();
+            idx.titleLen[i] = in.readInt();
+            idx.contentLen[i] = in.readInt();
+            idx.crawledAt[i] = in.readLong();
+            idx.publishedAt[i] = in.readLong();
+            idx.region[i] = in.readShort();
+            idx.category[i] = in.readByte();
+            idx.sourceType[i] = in.readByte();
+            if (in.readBoolean()) {
+                idx.deleted.set(i);
+            } else {
+                idx.ordinalByPostId.put(idx.postIds[i], i);
+                idx.totalTitleLen += idx.titleLen[i];
+                idx.totalContentLen += idx.contentLen[i];
+            }
+        }
+
+        int terms = in.readInt();
+        for (int t = 0; t < terms; t++) {
+            int id = idx.termId(in.readUTF());
+            int size = in.readInt();
+            idx.postingDocs[id] = new int[Math.max(4, size)];
+            idx.postingTfs[id] = new int[Math.max(4, size)];
+            for (int i = 0; i < size; i++) {
+                idx.postingDocs[id][i] = in.readInt();
+                idx.postingTfs[id][i] = in.readInt();
+            }
+            idx.postingSize[id] = size;
+        }
+        return idx;
+    }
+
+    /** 수집 시각을 초 단위로 (시간대 변환 없이 LocalDateTime 그대로 비교용) */
+    private static long epoch(LocalDateTime t) {
+        return t == null ? 0 : t.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /** 문자열 → 작은 정수 id. 0 은 null */
+    private static final class Dictionary {
+        private final List<String> values = new ArrayList<>(List.of(""));
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        int id(String value) {
+            if (value == null) return 0;
+            return ids.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        int find(String value) {
+            return value == null ? 0 : ids.getOrDefault(value, -1);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(values.size() - 1);
+            for (int i = 1; i < values.size(); i++) out.writeUTF(values.get(i));
+        }
+
+        void readFrom(DataInputStream in) throws IOException {
+            int n = in.readInt();
+            for (int i = 0; i < n; i++) id(in.readUTF());
+        }
+    }
+}
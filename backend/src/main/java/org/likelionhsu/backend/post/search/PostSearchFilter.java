@@ -0,0 +1,38 @@
+package org.likelionhsu.backend.post.search;
+
+import org.likelionhsu.backend.post.domain.Category;
+import org.likelionhsu.backend.post.domain.SourceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 대상 제한. null 필드는 조건 없음 (메모리 색인 / FULLTEXT / LIKE 공통)
+ * @param region            읍면동. 지정하면 해당 지역 + "서산시 전체" 글 (PostSpecification.hasRegion 과 같은 규칙)
+ * @param category          카테고리
+ * @param sourceType        이 소스만
+ * @param excludeSourceType 이 소스 제외 (source_type 이 없는 크롤러 행은 포함)
+ * @param publishedAfter    이 시각 이후 게시분만 (포함). 게시 시각이 아직 없는 행은 수집 시각으로 판단
+ * @param publishedBefore   이 시각 이전 게시분만 (미포함)
+ */
+public record PostSearchFilter(String region,
+                               Category category,
+                               SourceType sourceType,
+                               SourceType excludeSourceType,
+                               LocalDateTime publishedAfter,
+                               LocalDateTime publishedBefore) {
+
+    public static final String CITY_WIDE = "서산시 전체";
+
+    public static PostSearchFilter excluding(SourceType sourceType) {
+        return new PostSearchFilter(null, null, null, sourceType, null, null);
+    }
+
+    public static PostSearchFilter only(SourceType sourceType, LocalDateTime publishedAfter) {
+        return new PostSearchFilter(null, null, sourceType, null, publishedAfter, null);
+    }
+
+    /** "서산시 전체"나 빈 값이면 지역 조건 없음 */
+    public String regionOrNull() {
+        return region == null || region.isBlank() || CITY_WIDE.equals(region) ? null : region;
+    }
+}
@@ -0,0 +1,355 @@
+package org.likelionhsu.backend.post.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.post.domain.PubDates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 메모리 색인 (PostInvertedIndex) 수명 관리
+ *  - 기동: 디스크 스냅샷이 있으면 읽고, 없거나 형식이 다르면 DB 전체를 (crawled_at, id) 순으로 훑어 만든다 (별도 스레드)
+ *  - 갱신: 주기적으로 워터마크(가장 늦은 crawled_at) - lookback 이후 행만 읽어 추가. 크롤러가 재수집 시 crawled_at 을 갱신하므로 수정분도 들어온다
+ *  - 정합: 주기적으로 DB 의 id 만 훑어 DB 에서 지워진 글을 삭제 표시 (증분 갱신은 추가/수정만 본다)
+ *  - 삭제 표시가 많이 쌓이면 새로 빌드해 교체
+ *  - 변경이 있으면 주기적으로, 그리고 종료 시 스냅샷 저장 (임시 파일 → 원자적 교체)
+ * 준비되기 전에는 isReady() 가 false 이고 PostSearchService 가 FULLTEXT/LIKE 로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final String PAGE_SQL = """
+            SELECT id, title, content, region, category, source_type, crawled_at, pub_date, published_at
+            FROM post
+            WHERE crawled_at >= ? AND (crawled_at > ? OR id > ?)
+            ORDER BY crawled_at, id
+            LIMIT ?
+            """;
+    private static final String ID_PAGE_SQL = "SELECT id FROM post WHERE id > ? ORDER BY id LIMIT ?";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile PostInvertedIndex index;
+    private volatile boolean dirty;
+    private volatile long lastSnapshotAt;
+    private volatile long lastReconcileAt;
+
+    @Value("${post.search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post.search.index.snapshot-path:data/post-index.bin}")
+    private String snapshotPath;
+
+    @Value("${post.search.index.snapshot-interval-ms:600000}")
+    private long snapshotIntervalMs;
+
+    /** 본문은 앞부분만 색인 (긴 첨부 텍스트가 길이 정규화와 메모리를 지배하지 않도록) */
+    @Value("${post.search.index.max-content-chars:20000}")
+    private int maxContentChars;
+
+    @Value("${post.search.index.page-size:500}")
+    private int pageSize;
+
+    /** 크롤러/DB 시계 차이와 같은 초에 늦게 커밋된 행을 다시 보기 위한 여유 */
+    @Value("${post.search.index.lookback-minutes:10}")
+    private long lookbackMinutes;
+
+    /** DB 에서 지워진 글을 색인에서 빼는 주기 (id 만 읽는 PK 범위 조회) */
+    @Value("${post.search.index.reconcile-ms:3600000}")
+    private long reconcileMs;
+
+    /** 삭제 표시 비율이 이 값을 넘으면 다시 빌드 */
+    @Value("${post.search.index.rebuild-deleted-ratio:0.3}")
+    private double rebuildDeletedRatio;
+
+    @Value("${post.search.title-boost:2.0}")
+    private float titleBoost;
+
+    @Value("${post.search.recency-half-days:30}")
+    private double recencyHalfDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) return;
+        Thread.ofPlatform().daemon().name("post-index-init").start(this::initialize);
+    }
+
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    /** 관련도 × 최신성 상위 게시글 id. 준비 전이면 빈 목록 (isReady 로 먼저 확인) */
+    public List<Long> search(String query, PostSearchFilter filter, int limit) {
+        PostInvertedIndex idx = index;
+        if (idx == null) return List.of();
+        lock.readLock().lock();
+        try {
+            return idx.search(query, filter, limit, titleBoost, recencyHalfDays);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** DB 에 없는 것으로 확인된 게시글을 바로 삭제 표시 (PostSearchService 가 로드에서 빠진 id 를 알려 준다) */
+    public void forget(Collection<Long> postIds) {
+        PostInvertedIndex idx = index;
+        if (idx == null || postIds.isEmpty()) return;
+        int removed = 0;
+        lock.writeLock().lock();
+        try {
+            for (Long id : postIds) {
+                if (idx.delete(id)) removed++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (removed > 0) {
+            dirty = true;
+            log.debug("[post-index] forgot {} deleted posts", removed);
+        }
+    }
+
+    /* ------------------------- build / refresh ------------------------- */
+
+    private void initialize() {
+        long t0 = System.currentTimeMillis();
+        try {
+            PostInvertedIndex loaded = loadSnapshot();
+            if (loaded != null) {
+                index = loaded;
+                int added = catchUp(loaded);
+                reconcile(loaded); // 스냅샷 이후 DB 에서 지워진 글
+                log.info("[post-index] snapshot loaded docs={} terms={} caught-up={} {}ms",
+                        loaded.liveDocs(), loaded.termCount(), added, System.currentTimeMillis() - t0);
+            } else {
+                PostInvertedIndex built = build();
+                index = built;
+                dirty = true;
+                lastReconcileAt = System.currentTimeMillis();
+                log.info("[post-index] built docs={} terms={} {}ms",
+                        built.liveDocs(), built.termCount(), System.currentTimeMillis() - t0);
+                snapshot();
+            }
+        } catch (Exception e) {
+            log.warn("[post-index] init failed, fallback to SQL search: {}", e.toString());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${post.search.index.refresh-ms:60000}",
+            initialDelayString = "${post.search.index.refresh-initial-delay-ms:60000}")
+    public void refresh() {
+        PostInvertedIndex idx = index;
+        if (!enabled || idx == null || !refreshing.compareAndSet(false, true)) return;
+        try {
+            int docs = idx.liveDocs() + idx.deletedDocs();
+            if (docs > 0 && (double) idx.deletedDocs() / docs > rebuildDeletedRatio) {
+                long t0 = System.currentTimeMillis();
+                PostInvertedIndex rebuilt = build();
+                index = rebuilt;
+                dirty = true;
+                lastReconcileAt = System.currentTimeMillis();
+                log.info("[post-index] rebuilt (deleted {}/{}) {}ms", idx.deletedDocs(), docs, System.currentTimeMillis() - t0);
+            } else {
+                int added = catchUp(idx);
+                if (added > 0) log.debug("[post-index] +{} docs", added);
+                if (System.currentTimeMillis() - lastReconcileAt >= Math.max(60_000, reconcileMs)) reconcile(idx);
+            }
+            if (dirty && System.currentTimeMillis() - lastSnapshotAt >= snapshotIntervalMs) snapshot();
+        } catch (Exception e) {
+            log.warn("[post-index] refresh failed: {}", e.toString());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /** 새 색인을 DB 전체에서 만든다 (교체 전이라 잠금 불필요) */
+    private PostInvertedIndex build() {
+        PostInvertedIndex idx = new PostInvertedIndex(maxContentChars);
+        scan(EPOCH, idx, false);
+        return idx;
+    }
+
+    /** 워터마크 이후 행을 현재 색인에 추가 */
+    private int catchUp(PostInvertedIndex idx) {
+        LocalDateTime wm = idx.watermark();
+        LocalDateTime from = wm == null ? EPOCH : wm.minusMinutes(Math.max(0, lookbackMinutes));
+        int added = scan(from, idx, true);
+        if (added > 0) dirty = true;
+        return added;
+    }
+
+    /**
+     * 색인에는 있는데 DB 에 없는 글을 삭제 표시.
+     * 색인 id 를 먼저 떠 두고 DB id 를 훑으므로, 그 사이 새로 색인된 글을 DB 에 없는 것으로 오판하지 않는다
+     */
+    private void reconcile(PostInvertedIndex idx) {
+        long t0 = System.currentTimeMillis();
+        long[] indexed;
+        lock.readLock().lock();
+        try {
+            indexed = idx.livePostIds();
+        } finally {
+            lock.readLock().unlock();
+        }
+        long[] inDb = dbIds();
+        List<Long> gone = new ArrayList<>();
+        for (long id : indexed) {
+            if (Arrays.binarySearch(inDb, id) < 0) gone.add(id);
+        }
+        lastReconcileAt = System.currentTimeMillis();
+        if (gone.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            for (Long id : gone) idx.delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        dirty = true;
+        log.info("[post-index] reconciled deleted={} indexed={} db={} {}ms",
+                gone.size(), indexed.length, inDb.length, System.currentTimeMillis() - t0);
+    }
+
+    /** DB 의 게시글 id 전체 (오름차순, PK keyset 페이지) */
+    private long[] dbIds() {
+        long[] ids = new long[1024];
+        int n = 0;
+        long cursor = 0;
+        int size = Math.max(1000, pageSize * 10);
+        while (true) {
+            List<Long> page = jdbcTemplate.queryForList(ID_PAGE_SQL, Long.class, cursor, size);
+            if (page.isEmpty()) break;
+            if (n + page.size() > ids.length) ids = Arrays.copyOf(ids, Math.max(n + page.size(), ids.length * 2));
+            for (Long id : page) ids[n++] = id;
+            cursor = page.get(page.size() - 1);
+            if (page.size() < size) break;
+        }
+        return Arrays.copyOf(ids, n);
+    }
+
+    /**
+     * (crawled_at, id) keyset 페이지로 읽어 색인. DB 읽기는 잠금 밖, 페이지 반영만 쓰기 잠금.
+     * OR 만으로 된 keyset 조건은 MySQL 이 범위 조회로 바꾸지 못하므로 crawled_at >= ? 로 IDX_post_crawled_at_id 범위를 잡고
+     * 커서와 같은 시각의 앞선 id 만 OR 조건으로 거른다
+     */
+    private int scan(LocalDateTime from, PostInvertedIndex idx, boolean live) {
+        LocalDateTime cursorAt = from;
+        long cursorId = 0;
+        int added = 0;
+        int size = Math.max(50, pageSize);
+        while (true) {
+            List<PostInvertedIndex.Document> page = jdbcTemplate.query(PAGE_SQL, (rs, i) ->
+                            new PostInvertedIndex.Document(
+                                    rs.getLong("id"),
+                                    rs.getString("title"),
+                                    rs.getString("content"),
+                                    rs.getString("region"),
+                                    rs.getString("category"),
+                                    rs.getString("source_type"),
+                                    toLocalDateTime(rs.getTimestamp("crawled_at")),
+                                    publishedAt(rs.getString("pub_date"), rs.getTimestamp("published_at"),
+                                            toLocalDateTime(rs.getTimestamp("crawled_at")))),
+                    Timestamp.valueOf(cursorAt), Timestamp.valueOf(cursorAt), cursorId, size);
+            if (page.isEmpty()) break;
+
+            if (live) lock.writeLock().lock();
+            try {
+                for (PostInvertedIndex.Document d : page) {
+                    if (idx.add(d)) added++;
+                }
+            } finally {
+                if (live) lock.writeLock().unlock();
+            }
+
+            PostInvertedIndex.Document last = page.get(page.size() - 1);
+            if (last.crawledAt() == null) break; // crawled_at 은 NOT NULL 이지만 커서가 멈추지 않도록
+            cursorAt = last.crawledAt();
+            cursorId = last.postId();
+            if (page.size() < size) break;
+        }
+        return added;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp t) {
+        return t == null ? null : t.toLocalDateTime();
+    }
+
+    /** 백필 전 크롤러 행은 PostPublishedAtBackfill 과 같은 규칙으로 직접 계산 (백필은 crawled_at 을 바꾸지 않아 다시 읽히지 않는다) */
+    private static LocalDateTime publishedAt(String pubDate, Timestamp publishedAt, LocalDateTime crawledAt) {
+        return publishedAt != null ? publishedAt.toLocalDateTime() : PubDates.publishedAt(pubDate, crawledAt);
+    }
+
+    /* ------------------------- snapshot ------------------------- */
+
+    @PreDestroy
+    public void onShutdown() {
+        if (dirty) snapshot();
+    }
+
+    private void snapshot() {
+        PostInvertedIndex idx = index;
+        if (idx == null) return;
+        Path target = Path.of(snapshotPath);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        long t0 = System.currentTimeMillis();
+        lock.readLock().lock();
+        try {
+            if (target.toAbsolutePath().getParent() != null) Files.createDirectories(target.toAbsolutePath().getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tmp)), 1 << 16))) {
+                idx.writeTo(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+            lastSnapshotAt = System.currentTimeMillis();
+            log.info("[post-index] snapshot saved docs={} {}ms", idx.liveDocs(), lastSnapshotAt - t0);
+        } catch (IOException e) {
+            log.warn("[post-index] snapshot failed: {}", e.toString());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PostInvertedIndex loadSnapshot() {
+        Path target = Path.of(snapshotPath);
+        if (!Files.isRegularFile(target)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(target)), 1 << 16))) {
+            PostInvertedIndex idx = PostInvertedIndex.readFrom(in, maxContentChars);
+            if (idx == null) log.info("[post-index] snapshot format changed, rebuilding");
+            return idx;
+        } catch (IOException e) {
+            log.warn("[post-index] snapshot unreadable, rebuilding: {}", e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.likelionhsu.backend.post.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 색인/질의 공통 토크나이저
+ *  - 글자/숫자가 아닌 문자로 끊은 뒤, 한글 등 비 ASCII 글자가 섞인 토막은 2글자(bigram) 단위로 자른다 ("해미읍성" → 해미, 미읍, 읍성)
+ *  - 영문/숫자만인 토막은 소문자 단어 그대로
+ *  - 형태소 분석 없이 조사가 붙은 형태("해미읍성에서")도 앞 bigram 들이 맞는다
+ */
+final class PostTokenizer {
+
+    private PostTokenizer() {
+    }
+
+    static List<String> tokens(String text, int maxChars) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) return out;
+        int end = Math.min(text.length(), Math.max(0, maxChars));
+        int start = -1;
+        for (int i = 0; i <= end; i++) {
+            boolean word = i < end && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                emit(text.substring(start, i).toLowerCase(Locale.ROOT), out);
+                start = -1;
+            }
+        }
+        return out;
+    }
+
+    private static void emit(String run, List<String> out) {
+        if (isAscii(run)) {
+            out.add(run);
+            return;
+        }
+        if (run.length() == 1) {
+            out.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < run.length(); i++) {
+            out.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7F) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package org.likelionhsu.backend.post.service;
+
+import org.likelionhsu.backend.common.exception.ErrorCode;
+import org.likelionhsu.backend.common.exception.customexception.PostCustomException;
+import org.likelionhsu.backend.post.repository.PostListRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 피드 커서 = 정렬 키 버전 + 마지막으로 받은 글의 (publishedAt, id).
+ * 클라이언트에는 불투명한 문자열(base64url)로만 노출해 정렬 키를 바꿔도 API 가 바뀌지 않게 한다.
+ * 정렬 키를 바꿀 때는 VERSION 을 올린다. 이전 형식 커서는 다른 키의 경계로 잘못 읽히지 않도록 INVALID_CURSOR 로 거절한다.
+ */
+record FeedCursor(LocalDateTime publishedAt, long id) {
+
+    /** p1 = (publishedAt, id). 버전 없는 (crawledAt, id) 커서는 거절 */
+    private static final String VERSION = "p1";
+    private static final String SEP = "|";
+
+    static FeedCursor of(PostListRow row) {
+        return new FeedCursor(row.publishedAt(), row.id());
+    }
+
+    String encode() {
+        String raw = VERSION + SEP + publishedAt + SEP + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 비어 있으면 첫 페이지(null), 형식이 틀리면 400 */
+    static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(SEP), -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) throw new PostCustomException(ErrorCode.INVALID_CURSOR);
+            return new FeedCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new PostCustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
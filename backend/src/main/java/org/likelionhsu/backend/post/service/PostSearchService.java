@@ -0,0 +1,125 @@
+package org.likelionhsu.backend.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.repository.PostFullTextIndex;
+import org.likelionhsu.backend.post.repository.PostRepository;
+import org.likelionhsu.backend.post.repository.PostSpecification;
+import org.likelionhsu.backend.post.search.PostSearchFilter;
+import org.likelionhsu.backend.post.search.PostSearchIndex;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 (AI 검색 내부 소스용). 관련도 × 최신성 순
+ *  1) 메모리 색인(PostSearchIndex, BM25F)이 준비됐으면 그것으로
+ *  2) 아니면 FULLTEXT(ngram) 인덱스의 MATCH ... AGAINST
+ *  3) 둘 다 안 되거나 쓸 수 있는 검색어가 없으면 기존 LIKE 검색
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    /** ngram_token_size(기본 2)보다 짧은 토큰은 색인에 없어 매칭되지 않는다 */
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKENS = 8;
+    /** 삭제된 글 때문에 모자랄 때 후보를 넓히는 상한 (limit 의 배수) */
+    private static final int MAX_TOP_UP_FACTOR = 8;
+
+    private final PostRepository postRepository;
+    private final PostFullTextIndex fullTextIndex;
+    private final PostSearchIndex searchIndex;
+
+    public List<Post> search(String query, PostSearchFilter filter, int limit) {
+        int n = Math.max(1, limit);
+        if (searchIndex.isReady()) {
+            return searchIndexed(query, filter, n);
+        }
+        String booleanQuery = toBooleanQuery(query);
+        if (booleanQuery != null && fullTextIndex.isAvailable()) {
+            try {
+                return load(postRepository.searchFullText(booleanQuery, filter, n));
+            } catch (DataAccessException e) {
+                log.warn("[post-search] fulltext failed, LIKE fallback: {}", e.toString());
+            }
+        }
+        return searchLike(query, filter, n);
+    }
+
+    /**
+     * 색인에 남아 있던 삭제된 글(다음 정합 전까지)은 로드에서 빠지므로, 모자라면 후보를 넓혀 limit 을 채운다.
+     * 빠진 id 는 색인에 알려 바로 삭제 표시한다
+     */
+    private List<Post> searchIndexed(String query, PostSearchFilter filter, int n) {
+        int want = n;
+        List<Long> ids = searchIndex.search(query, filter, want);
+        List<Post> posts = load(ids);
+        while (posts.size() < n && ids.size() == want && want < n * MAX_TOP_UP_FACTOR) {
+            want *= 2;
+            ids = searchIndex.search(query, filter, want);
+            posts = load(ids);
+        }
+        if (posts.size() < ids.size()) {
+            Set<Long> found = posts.stream().map(Post::getId).collect(Collectors.toSet());
+            searchIndex.forget(ids.stream().filter(id -> !found.contains(id)).toList());
+        }
+        return posts.size() > n ? posts.subList(0, n) : posts;
+    }
+
+    /**
+     * 공백 토큰마다 구문("...")으로 묶고 연산자 없이 나열 → 하나라도 맞으면 후보, 많이 맞을수록 높은 점수.
+     * ngram 구문 검색은 토큰의 2글자 조각이 연속으로 나타나야 맞으므로 "해미읍성"이 "해미", "읍성" 따로 맞지는 않는다.
+     */
+    static String toBooleanQuery(String query) {
+        if (query == null) return null;
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String raw : query.split("\\s+")) {
+            String t = raw.replaceAll("[^\\p{L}\\p{N}]", "");
+            if (t.length() >= MIN_TOKEN_LENGTH) tokens.add(t);
+            if (tokens.size() >= MAX_TOKENS) break;
+        }
+        if (tokens.isEmpty()) return null;
+        return tokens.stream().map(t -> "\"" + t + "\"").collect(Collectors.joining(" "));
+    }
+
+    /** id 순서(랭킹)를 유지한 채 엔티티 로드 */
+    private List<Post> load(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Post> byId = postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Post p = byId.get(id);
+            if (p != null) ordered.add(p);
+        }
+        return ordered;
+    }
+
+    private List<Post> searchLike(String query, PostSearchFilter filter, int limit) {
+        Specification<Post> spec = Specification.where(PostSpecification.containsKeyword(query));
+        if (filter != null) {
+            spec = spec.and(PostSpecification.hasRegion(filter.region()))
+                    .and(PostSpecification.hasCategory(filter.category()))
+                    .and(PostSpecification.hasSourceType(filter.sourceType()))
+                    .and(PostSpecification.notSourceType(filter.excludeSourceType()))
+                    .and(PostSpecification.publishedBetween(filter.publishedAfter(), filter.publishedBefore()));
+        }
+        return postRepository.findAll(spec, PageRequest.of(0, limit,
+                Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("crawledAt")))).getContent();
+    }
+}
@@ -3,7 +3,9 @@ package org.likelionhsu.backend.post.service;
 import lombok.RequiredArgsConstructor;
 import org.likelionhsu.backend.post.domain.Post;
 import org.likelionhsu.backend.post.dto.response.PostDetailResponseDto;
+import org.likelionhsu.backend.post.dto.response.PostFeedResponseDto;
 import org.likelionhsu.backend.post.dto.response.PostResponseDto;
+import org.likelionhsu.backend.post.repository.PostListRow;
 import org.likelionhsu.backend.post.repository.PostRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,8 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.likelionhsu.backend.common.exception.customexception.PostCustomException;
 import org.likelionhsu.backend.common.exception.ErrorCode;
@@ -25,22 +32,99 @@ import org.springframework.data.jpa.domain.Specification;
 @RequiredArgsConstructor
 public class PostService {
 
+    /** 목록/피드 공통 정렬 (게시 시각순). id 로 동순위를 끊어 페이지 경계가 결정적이 되도록 */
+    private static final Sort FEED_SORT = Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("id"));
+    private static final Comparator<PostListRow> FEED_ORDER = Comparator.comparing(PostListRow::publishedAt)
+            .thenComparing(PostListRow::id)
+            .reversed();
+    private static final Sort POPULAR_SORT = Sort.by(Sort.Order.desc("views"), Sort.Order.desc("id"));
+    private static final int MAX_FEED_SIZE = 50;
+    private static final String CITY_WIDE = "서산시 전체";
+
     private final PostRepository postRepository;
 
     /**
      * 필터 조건에 맞는 게시글 목록을 조회합니다.
      * @param region 지역 (읍면동)
      * @param category 카테고리
+     * @param range 게시일 기간
      * @return 필터링된 게시글 목록
      */
-    public Page<PostResponseDto> findPostsByFilter(String region, Category category, int page, int size) {
+    public Page<PostResponseDto> findPostsByFilter(String region, Category category, PublishedRange range, int page, int size) {
         Specification<Post> spec = Specification.where(PostSpecification.hasRegion(region))
-                                                .and(PostSpecification.hasCategory(category));
+                                                .and(PostSpecification.hasCategory(category))
+                                                .and(PostSpecification.publishedBetween(range.startInclusive(), range.endExclusive()));
         
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, size, FEED_SORT);
+
+        List<PostResponseDto> content = postRepository.findListRows(spec, FEED_SORT, pageable.getOffset(), size).stream()
+                .map(PostResponseDto::from)
+                .collect(Collectors.toList());
+        // 마지막 페이지처럼 개수를 알 수 있으면 COUNT 쿼리를 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> postRepository.count(spec));
+    }
+
+    /**
+     * 커서 기반 게시글 피드 (무한 스크롤용).
+     * OFFSET/COUNT 없이 (publishedAt, id) keyset 으로 다음 size 개만 읽으므로 깊이와 관계없이 비용이 같습니다.
+     * @param region 지역 (읍면동)
+     * @param category 카테고리
+     * @param range 게시일 기간 ((region, category, published_at) 인덱스 범위 안에서 keyset)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 50)
+     * @return 게시글과 다음 커서
+     */
+    public PostFeedResponseDto findFeed(String region, Category category, PublishedRange range, String cursor, int size) {
+        int limit = Math.min(Math.max(1, size), MAX_FEED_SIZE);
+        FeedCursor after = FeedCursor.decode(cursor);
+        Specification<Post> base = Specification.where(PostSpecification.hasCategory(category))
+                                               .and(PostSpecification.hasPublishedAt())
+                                               .and(PostSpecification.publishedBetween(range.startInclusive(), range.endExclusive()))
+                                               .and(after == null ? null : PostSpecification.before(after.publishedAt(), after.id()));
+
+        // 한 행 더 읽어 다음 페이지 유무를 판단 (COUNT 쿼리 없음)
+        List<PostListRow> rows;
+        if (region == null || region.isBlank() || CITY_WIDE.equals(region)) {
+            rows = readFeed(base, limit + 1);
+        } else {
+            // region = ? OR region = '서산시 전체' 는 정렬+LIMIT 에 인덱스를 못 써 두 범위를 각각 keyset 으로 읽고 합친다
+            rows = Stream.concat(
+                            readFeed(base.and(PostSpecification.regionEquals(region)), limit + 1).stream(),
+                            readFeed(base.and(PostSpecification.regionEquals(CITY_WIDE)), limit + 1).stream())
+                    .sorted(FEED_ORDER)
+                    .limit(limit + 1)
+                    .collect(Collectors.toList());
+        }
+        boolean hasNext = rows.size() > limit;
+        List<PostListRow> page = hasNext ? rows.subList(0, limit) : rows;
 
-        return postRepository.findAll(spec, pageable)
-                .map(PostResponseDto::from);
+        return PostFeedResponseDto.builder()
+                .content(page.stream().map(PostResponseDto::from).collect(Collectors.toList()))
+                .nextCursor(hasNext ? FeedCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private List<PostListRow> readFeed(Specification<Post> spec, int limit) {
+        return postRepository.findListRows(spec, FEED_SORT, 0, limit);
+    }
+
+    /**
+     * 최근 게시된 글 중 조회수 순 인기 게시글을 조회합니다.
+     * @param region 지역 (읍면동)
+     * @param category 카테고리
+     * @param days 최근 며칠 안에 게시된 글만 (최대 90일)
+     * @param size 개수 (최대 50)
+     * @return 조회수 내림차순 게시글 목록
+     */
+    public List<PostResponseDto> findPopular(String region, Category category, int days, int size) {
+        Specification<Post> spec = Specification.where(PostSpecification.hasRegion(region))
+                                                .and(PostSpecification.hasCategory(category))
+                                                .and(PostSpecification.publishedBetween(
+                                                        LocalDateTime.now().minusDays(Math.min(Math.max(1, days), 90)), null));
+        return postRepository.findListRows(spec, POPULAR_SORT, 0, Math.min(Math.max(1, size), MAX_FEED_SIZE)).stream()
+                .map(PostResponseDto::from)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -0,0 +1,130 @@
+package org.likelionhsu.backend.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.likelionhsu.backend.post.cache.PostResponseCache;
+import org.likelionhsu.backend.post.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 (write-behind)
+ *  - 조회는 게시글별 LongAdder 에 더하기만 하고(요청 경로에서 DB 쓰기 없음), 주기적으로 모아서 JDBC 배치 UPDATE
+ *  - 인기 글에 조회가 몰려도 행 잠금은 flush 마다 게시글당 한 번
+ *  - 같은 조회자(로그인 사용자 id, 없으면 IP+UA)가 창 안에서 같은 글을 다시 보면 세지 않는다 (노드 로컬)
+ *  - 비정상 종료 시 유실은 마지막 flush 이후 분량(flush 주기)으로 한정, 정상 종료 시에는 남은 분량을 flush
+ *  - DB 반영에 실패하면 다시 버퍼에 더해 다음 flush 에 재시도
+ *  - 반영한 게시글의 상세 응답 캐시는 지워서, 상세의 views 가 flush 주기 이상 늦지 않게 한다
+ *  - 기록/비우기/제거는 모두 같은 키의 ConcurrentHashMap.compute 안에서 해서 서로 직렬화된다 (제거 중 증가분 유실 없음)
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private final PostRepository postRepository;
+    private final PostResponseCache postResponseCache;
+    private final Map<Long, LongAdder> buffer = new ConcurrentHashMap<>();
+    /** 지난 flush 에서 0 이었던 게시글 (한 번 더 0 이면 버퍼에서 제거) */
+    private final Map<Long, Boolean> idle = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> recentViewers;
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder deduped = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+
+    @Value("${post.views.enabled:true}")
+    private boolean enabled;
+
+    public PostViewCounter(PostRepository postRepository,
+                           PostResponseCache postResponseCache,
+                           @Value("${post.views.dedupe-window-minutes:30}") long dedupeWindowMinutes,
+                           @Value("${post.views.dedupe-max-size:200000}") long dedupeMaxSize) {
+        this.postRepository = postRepository;
+        this.postResponseCache = postResponseCache;
+        this.recentViewers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(Math.max(0, dedupeWindowMinutes)))
+                .maximumSize(Math.max(1, dedupeMaxSize))
+                .build();
+    }
+
+    /**
+     * 상세 조회 1건 기록.
+     * @param viewer 조회자 식별 키 (null 이면 중복 제거 없이 센다)
+     */
+    public void record(Long postId, String viewer) {
+        if (!enabled || postId == null) return;
+        if (viewer != null && recentViewers.asMap().putIfAbsent(viewer + ":" + postId, Boolean.TRUE) != null) {
+            deduped.increment();
+            return;
+        }
+        buffer.compute(postId, (id, adder) -> {
+            LongAdder a = adder == null ? new LongAdder() : adder;
+            a.increment();
+            return a;
+        });
+        recorded.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${post.views.flush-ms:5000}")
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) return;
+        try {
+            // id 순으로 UPDATE 해서 다른 노드의 flush 와 잠금 순서가 엇갈리지 않게
+            Map<Long, Long> deltas = new TreeMap<>();
+            for (Long id : buffer.keySet()) {
+                long[] n = new long[1];
+                buffer.computeIfPresent(id, (k, adder) -> {
+                    n[0] = adder.sumThenReset();
+                    if (n[0] > 0) {
+                        idle.remove(k);
+                        return adder;
+                    }
+                    if (idle.putIfAbsent(k, Boolean.TRUE) == null) return adder;
+                    idle.remove(k);
+                    return null; // 두 번 연속 0: 버퍼에서 제거
+                });
+                if (n[0] > 0) deltas.put(id, n[0]);
+            }
+            if (deltas.isEmpty()) return;
+            try {
+                postRepository.addViews(deltas);
+                long total = deltas.values().stream().mapToLong(Long::longValue).sum();
+                flushed.add(total);
+                postResponseCache.evictDetails(deltas.keySet());
+                log.debug("[post-views] flushed posts={} views={}", deltas.size(), total);
+            } catch (Exception e) {
+                deltas.forEach((id, n) -> buffer.compute(id, (k, adder) -> {
+                    LongAdder a = adder == null ? new LongAdder() : adder;
+                    a.add(n);
+                    return a;
+                }));
+                log.warn("[post-views] flush failed, retry next round: {}", e.toString());
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        flush();
+    }
+
+    public ViewCounterStats snapshot() {
+        long pending = buffer.values().stream().mapToLong(LongAdder::sum).sum();
+        return new ViewCounterStats(recorded.sum(), deduped.sum(), flushed.sum(), pending);
+    }
+
+    public record ViewCounterStats(long recorded, long deduped, long flushed, long pending) {}
+}
@@ -0,0 +1,42 @@
+package org.likelionhsu.backend.post.service;
+
+import org.likelionhsu.backend.common.exception.ErrorCode;
+import org.likelionhsu.backend.common.exception.customexception.PostCustomException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 목록/피드 게시일 기간 조건 (양 끝 날짜 포함, 비어 있으면 그쪽 제한 없음).
+ * published_at 인덱스 범위 조회용으로 [from 00:00, to + 1일 00:00) 로 바꿔 쓴다.
+ */
+public record PublishedRange(LocalDate from, LocalDate to) {
+
+    public static final PublishedRange ALL = new PublishedRange(null, null);
+
+    /** yyyy-MM-dd. 형식이 틀리거나 from > to 면 400 */
+    public static PublishedRange parse(String from, String to) {
+        try {
+            LocalDate f = from == null || from.isBlank() ? null : LocalDate.parse(from.trim());
+            LocalDate t = to == null || to.isBlank() ? null : LocalDate.parse(to.trim());
+            if (f != null && t != null && f.isAfter(t)) throw new PostCustomException(ErrorCode.INVALID_DATE_RANGE);
+            return f == null && t == null ? ALL : new PublishedRange(f, t);
+        } catch (DateTimeParseException e) {
+            throw new PostCustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+
+    public LocalDateTime startInclusive() {
+        return from == null ? null : from.atStartOfDay();
+    }
+
+    public LocalDateTime endExclusive() {
+        return to == null ? null : to.plusDays(1).atStartOfDay();
+    }
+
+    /** 캐시 키 조각 */
+    public String key() {
+        return (from == null ? "-" : from.toString()) + "~" + (to == null ? "-" : to.toString());
+    }
+}
@@ -4,7 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.likelionhsu.backend.bookmark.repository.BookmarkRepository;
 import org.likelionhsu.backend.comment.repository.CommentRepository;
 import org.likelionhsu.backend.like.repository.PostLikeRepository;
-import org.likelionhsu.backend.post.domain.Post;
+import org.likelionhsu.backend.post.repository.InteractedPostRow;
+import org.likelionhsu.backend.post.repository.PostCount;
 import org.likelionhsu.backend.user.Dto.MyPageCommentDto;
 import org.likelionhsu.backend.user.Dto.MyPagePostDto;
 import org.likelionhsu.backend.user.Enitity.User;
@@ -13,6 +14,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,51 +28,36 @@ public class MyPageService {
     private final CommentRepository commentRepository;
 
     public Page<MyPagePostDto> getBookmarkedPosts(User user, Pageable pageable) {
-        return bookmarkRepository.findByUserOrderByCreatedAtDesc(user, pageable)
-                .map(bookmark -> {
-                    Post post = bookmark.getPost();
-                    return MyPagePostDto.builder()
-                            .postId(post.getId())
-                            .title(post.getTitle())
-                            .region(post.getRegion())
-                            .category(post.getCategory().name())
-                            .createdAt(post.getCrawledAt())
-                            .viewCount(post.getViews())
-                            .likeCount((int) postLikeRepository.countByPost(post))
-                            .commentCount((int) commentRepository.findByPostOrderByCreatedAtAsc(post).size())
-                            .interactionAt(bookmark.getCreatedAt())
-                            .build();
-                });
+        return toPostDtos(bookmarkRepository.findPostRowsByUser(user, pageable));
     }
 
     public Page<MyPagePostDto> getLikedPosts(User user, Pageable pageable) {
-        return postLikeRepository.findByUserOrderByCreatedAtDesc(user, pageable)
-                .map(postLike -> {
-                    Post post = postLike.getPost();
-                    return MyPagePostDto.builder()
-                            .postId(post.getId())
-                            .title(post.getTitle())
-                            .region(post.getRegion())
-                            .category(post.getCategory().name())
-                            .createdAt(post.getCrawledAt())
-                            .viewCount(post.getViews())
-                            .likeCount((int) postLikeRepository.countByPost(post))
-                            .commentCount((int) commentRepository.findByPostOrderByCreatedAtAsc(post).size())
-                            .interactionAt(postLike.getCreatedAt())
-                            .build();
-                });
+        return toPostDtos(postLikeRepository.findPostRowsByUser(user, pageable));
     }
 
     public Page<MyPageCommentDto> getMyComments(User user, Pageable pageable) {
-        return commentRepository.findByUserOrderByCreatedAtDesc(user, pageable)
-                .map(comment -> MyPageCommentDto.builder()
-                        .commentId(comment.getId())
-                        .postId(comment.getPost().getId())
-                        .postTitle(comment.getPost().getTitle())
-                        .content(comment.getContent())
-                        .createdAt(comment.getCreatedAt())
-                        .updatedAt(comment.getUpdatedAt())
-                        .build());
+        return commentRepository.findMyPageRowsByUser(user, pageable);
+    }
+
+    /** 페이지 안 게시글들의 좋아요/댓글 수는 각각 GROUP BY 한 번으로 채운다 */
+    private Page<MyPagePostDto> toPostDtos(Page<InteractedPostRow> rows) {
+        List<Long> postIds = rows.getContent().stream().map(InteractedPostRow::postId).toList();
+        Map<Long, Long> likes = postIds.isEmpty() ? Map.of() : toMap(postLikeRepository.countByPostIds(postIds));
+        Map<Long, Long> comments = postIds.isEmpty() ? Map.of() : toMap(commentRepository.countByPostIds(postIds));
+        return rows.map(row -> MyPagePostDto.builder()
+                .postId(row.postId())
+                .title(row.title())
+                .region(row.region())
+                .category(row.category().name())
+                .createdAt(row.crawledAt())
+                .viewCount(row.views())
+                .likeCount(likes.getOrDefault(row.postId(), 0L).intValue())
+                .commentCount(comments.getOrDefault(row.postId(), 0L).intValue())
+                .interactionAt(row.interactionAt())
+                .build());
     }
-}
 
+    private static Map<Long, Long> toMap(List<PostCount> counts) {
+        return counts.stream().collect(Collectors.toMap(PostCount::getPostId, PostCount::getCount));
+    }
+}
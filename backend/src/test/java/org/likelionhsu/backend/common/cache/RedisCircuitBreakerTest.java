@@ -0,0 +1,64 @@
+package org.likelionhsu.backend.common.cache;
+
+import org.junit.jupiter.api.Test;
+import org.likelionhsu.backend.common.cache.RedisCircuitBreaker.State;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** 상태 전이: CLOSED → OPEN → HALF_OPEN 시험 호출 결과에 따라 CLOSED / OPEN */
+class RedisCircuitBreakerTest {
+
+    private static final long OPEN_MS = 100;
+
+    private final RedisCircuitBreaker breaker = new RedisCircuitBreaker(1, OPEN_MS, 10_000);
+
+    @Test
+    void nonRedisErrorInHalfOpenTrialReopensInsteadOfSticking() throws InterruptedException {
+        AtomicInteger recovered = new AtomicInteger();
+        breaker.onRecovery(recovered::incrementAndGet);
+        open();
+
+        Thread.sleep(OPEN_MS + 50);
+        assertThrows(SerializationException.class, () -> breaker.call(() -> {
+            throw new SerializationException("unknown envelope version");
+        }, () -> "fallback"));
+        assertEquals(State.OPEN, breaker.snapshot().state());
+
+        Thread.sleep(OPEN_MS + 50);
+        assertEquals("ok", breaker.call(() -> "ok", () -> "fallback"));
+        assertEquals(State.CLOSED, breaker.snapshot().state());
+        assertEquals(1, recovered.get());
+    }
+
+    @Test
+    void redisFailureInHalfOpenTrialReopens() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_MS + 50);
+        assertEquals("fallback", breaker.call(() -> {
+            throw new QueryTimeoutException("still down");
+        }, () -> "fallback"));
+        assertEquals(State.OPEN, breaker.snapshot().state());
+        assertEquals("fallback", breaker.call(() -> "ok", () -> "fallback")); // openMs 안에서는 호출하지 않음
+    }
+
+    @Test
+    void nonRedisErrorWhileClosedIsPropagatedWithoutCounting() {
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> {
+            throw new IllegalStateException("codec");
+        }, () -> "fallback"));
+        assertEquals(State.CLOSED, breaker.snapshot().state());
+        assertEquals(0, breaker.snapshot().failures());
+    }
+
+    private void open() {
+        assertEquals("fallback", breaker.call(() -> {
+            throw new QueryTimeoutException("down");
+        }, () -> "fallback"));
+        assertEquals(State.OPEN, breaker.snapshot().state());
+    }
+}
@@ -0,0 +1,83 @@
+package org.likelionhsu.backend.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 재계산 락이 캐시하지 않는 결과(null)/예외 뒤에도 풀리는지, 다음 요청이 coldWait 만큼 기다리지 않는지 */
+class StampedeProtectedCacheTest {
+
+    private static final String LOCK = "lock:cache:summary:k";
+    private static final long COLD_WAIT_MS = 5_000;
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> ops = mock(ValueOperations.class);
+    private final RedisCircuitBreaker breaker = new RedisCircuitBreaker(3, 10_000, 10_000);
+    private final StampedeProtectedCache cache = new StampedeProtectedCache(new ConcurrentMapCache("summary"),
+            redis, breaker, Duration.ofMinutes(10), Duration.ofSeconds(60), COLD_WAIT_MS, 1.0, 100);
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(eq(LOCK), anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    @Test
+    void releasesLockWhenLoaderReturnsNull() {
+        assertNull(cache.get("k", () -> null));
+        verify(redis).execute(any(RedisScript.class), eq(List.of(LOCK)), any());
+
+        // 같은 노드의 다음 요청은 다시 락을 잡고 바로 계산한다
+        long t0 = System.currentTimeMillis();
+        assertEquals("v", cache.get("k", () -> "v"));
+        assertTrue(System.currentTimeMillis() - t0 < COLD_WAIT_MS / 5);
+        verify(ops, times(2)).setIfAbsent(eq(LOCK), anyString(), any(Duration.class));
+        assertEquals("v", cache.get("k").get());
+    }
+
+    @Test
+    void releasesLockWhenLoaderThrows() {
+        assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get("k", () -> { throw new IllegalStateException("overloaded"); }));
+        verify(redis).execute(any(RedisScript.class), eq(List.of(LOCK)), any());
+    }
+
+    @Test
+    void stopsWaitingWhenOtherNodeReleasesWithoutValue() {
+        when(ops.setIfAbsent(eq(LOCK), anyString(), any(Duration.class))).thenReturn(false);
+        when(redis.hasKey(LOCK)).thenReturn(false);
+
+        long t0 = System.currentTimeMillis();
+        assertEquals("v", cache.get("k", () -> "v"));
+        assertTrue(System.currentTimeMillis() - t0 < COLD_WAIT_MS / 5);
+        verify(redis, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    void plainGetNeverTakesLock() {
+        assertNull(cache.get("k"));
+        verify(ops, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+}
@@ -0,0 +1,113 @@
+package org.likelionhsu.backend.naversearch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.likelionhsu.backend.naversearch.dto.NaverSearchResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 네이버 검색 응답 디코딩 호출당 할당량 비교 (기본 test 태스크에서 제외, ./gradlew benchmark 로 실행)
+ *  - legacy : 버퍼 → String → JsonNode → DTO 복사
+ *  - typed  : 버퍼 → Jackson 스트리밍 디코딩 → DTO
+ */
+@Tag("benchmark")
+class NaverDecodingBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+    private static final int CHUNK = 8 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Jackson2JsonDecoder decoder = new Jackson2JsonDecoder(objectMapper);
+    private final DefaultDataBufferFactory buffers = new DefaultDataBufferFactory();
+    private final byte[] body = sampleResponse(100).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void allocationPerCall() {
+        assertEquals(legacy().size(), typed().size());
+
+        long legacyBytes = measure(this::legacy);
+        long typedBytes = measure(this::typed);
+        System.out.printf("[benchmark] naver search decode (%d bytes body): legacy=%d B/call, typed=%d B/call (%.1f%%)%n",
+                body.length, legacyBytes, typedBytes, 100.0 * typedBytes / legacyBytes);
+    }
+
+    private List<NaverSearchItemDto> legacy() {
+        DataBuffer joined = DataBufferUtils.join(chunks()).block();
+        String json = joined.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(joined);
+        List<NaverSearchItemDto> list = new ArrayList<>();
+        try {
+            for (JsonNode item : objectMapper.readTree(json).path("items")) {
+                list.add(new NaverSearchItemDto(
+                        item.path("title").asText(),
+                        item.path("description").asText(),
+                        item.path("link").asText(),
+                        item.path("originallink").asText(),
+                        "news"));
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return list;
+    }
+
+    private List<NaverSearchItemDto> typed() {
+        NaverSearchResponse res = (NaverSearchResponse) decoder
+                .decodeToMono(chunks(), ResolvableType.forClass(NaverSearchResponse.class), MediaType.APPLICATION_JSON, null)
+                .block();
+        res.items().forEach(i -> i.setType("news"));
+        return res.items();
+    }
+
+    private Flux<DataBuffer> chunks() {
+        List<DataBuffer> list = new ArrayList<>();
+        for (int i = 0; i < body.length; i += CHUNK) {
+            int len = Math.min(CHUNK, body.length - i);
+            DataBuffer buf = buffers.allocateBuffer(len);
+            buf.write(body, i, len);
+            list.add(buf);
+        }
+        return Flux.fromIterable(list);
+    }
+
+    private static long measure(Supplier<?> call) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) call.get();
+        long tid = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < ITERATIONS; i++) call.get();
+        return (threads.getThreadAllocatedBytes(tid) - before) / ITERATIONS;
+    }
+
+    private static String sampleResponse(int items) {
+        StringBuilder sb = new StringBuilder("{\"lastBuildDate\":\"Mon, 19 Oct 2026 10:00:00 +0900\",\"total\":1200,\"start\":1,\"display\":")
+                .append(items).append(",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"title\":\"서산시 <b>해미읍성</b> 축제 소식 ").append(i).append("\",")
+                    .append("\"originallink\":\"https://news.example.com/article/").append(i).append("\",")
+                    .append("\"link\":\"https://n.news.naver.com/mnews/article/").append(i).append("\",")
+                    .append("\"description\":\"서산시는 올해 해미읍성 축제를 열고 다양한 체험 프로그램과 공연을 운영한다고 밝혔다. ")
+                    .append("지역 농특산물 판매 부스도 함께 마련된다.\",")
+                    .append("\"pubDate\":\"Mon, 19 Oct 2026 09:").append(String.format("%02d", i % 60)).append(":00 +0900\"}");
+        }
+        return sb.append("]}").toString();
+    }
+}
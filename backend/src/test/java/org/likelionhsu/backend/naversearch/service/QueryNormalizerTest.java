@@ -0,0 +1,41 @@
+package org.likelionhsu.backend.naversearch.service;
+
+import org.junit.jupiter.api.Test;
+import org.likelionhsu.backend.common.config.NaverSearchProperties;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryNormalizerTest {
+
+    private final QueryNormalizer normalizer = new QueryNormalizer(properties());
+
+    @Test
+    void textKeepsNounsEndingInParticleLikeSyllables() {
+        assertEquals("어린이 고양이 고속도로 해안도로", normalizer.normalize("어린이 고양이 고속도로 해안도로").text());
+        assertEquals("서산 어린이 축제", normalizer.normalize("서산 어린이 축제").text());
+    }
+
+    @Test
+    void textKeepsParticlesButKeyDropsThem() {
+        QueryNormalizer.NormalizedQuery q = normalizer.normalize("서산의 맛집");
+        assertEquals("서산의 맛집", q.text());
+        assertEquals("맛집 서산", q.key());
+    }
+
+    @Test
+    void keyIgnoresOrderSpacingAndRegionAliases() {
+        assertEquals(normalizer.key("서산 맛집"), normalizer.key("맛집  서산"));
+        assertEquals(normalizer.key("서산 맛집"), normalizer.key("서산맛집"));
+        assertEquals(normalizer.key("서산시 맛집"), normalizer.key("서산 맛집"));
+        assertEquals(normalizer.key("대산 축제"), normalizer.key("대산읍 축제"));
+        assertEquals("서산 맛집", normalizer.normalize("서산맛집!").text());
+    }
+
+    private static NaverSearchProperties properties() {
+        NaverSearchProperties p = new NaverSearchProperties();
+        p.setRegions(List.of("서산시 전체", "대산읍", "해미면", "동문1동"));
+        return p;
+    }
+}
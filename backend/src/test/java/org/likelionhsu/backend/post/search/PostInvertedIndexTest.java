@@ -0,0 +1,107 @@
+package org.likelionhsu.backend.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostInvertedIndexTest {
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final double HALF_DAYS = 30;
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+    private final PostInvertedIndex index = new PostInvertedIndex(20_000);
+
+    @Test
+    void searchRanksTitleMatchesFirst() {
+        index.add(doc(1, "해미읍성 축제 안내", "가을 축제가 열립니다", "해미면", NOW));
+        index.add(doc(2, "대산읍 공지", "해미읍성 주차장 이용 안내", "대산읍", NOW));
+        index.add(doc(3, "운산면 소식", "마을 행사", "운산면", NOW));
+
+        assertEquals(List.of(1L, 2L), search("해미읍성", null));
+        assertEquals(List.of(), search("없는검색어", null));
+    }
+
+    @Test
+    void replaceByNewerCrawlRemovesOldTerms() {
+        assertTrue(index.add(doc(1, "해미읍성 축제", "본문", "해미면", NOW.minusHours(1))));
+        assertFalse(index.add(doc(1, "해미읍성 축제", "본문", "해미면", NOW.minusHours(1)))); // 같은 수집 시각은 건너뜀
+        assertTrue(index.add(doc(1, "대산 항만 소식", "본문", "대산읍", NOW)));
+
+        assertEquals(List.of(), search("해미읍성", null));
+        assertEquals(List.of(1L), search("항만", null));
+        assertEquals(1, index.liveDocs());
+        assertEquals(1, index.deletedDocs());
+        assertEquals(NOW, index.watermark());
+    }
+
+    @Test
+    void deleteDropsPostFromResultsAndLiveIds() {
+        index.add(doc(1, "해미읍성 축제", "본문", "해미면", NOW));
+        index.add(doc(2, "해미읍성 주차", "본문", "해미면", NOW));
+
+        assertTrue(index.delete(1));
+        assertFalse(index.delete(1));
+        assertFalse(index.delete(99));
+
+        assertEquals(List.of(2L), search("해미읍성", null));
+        assertArrayEquals(new long[]{2L}, index.livePostIds());
+        assertEquals(1, index.deletedDocs());
+    }
+
+    @Test
+    void filtersByRegionIncludingCityWideAndPublishedRange() {
+        index.add(doc(1, "축제 안내", "본문", "해미면", NOW));
+        index.add(doc(2, "축제 일정", "본문", PostSearchFilter.CITY_WIDE, NOW.minusDays(40)));
+        index.add(doc(3, "축제 소식", "본문", "대산읍", NOW));
+
+        List<Long> haemi = search("축제", new PostSearchFilter("해미면", null, null, null, null, null));
+        assertEquals(2, haemi.size());
+        assertTrue(haemi.containsAll(List.of(1L, 2L)));
+        // 색인에 없는 지역이어도 "서산시 전체" 글은 나온다
+        assertEquals(List.of(2L), search("축제", new PostSearchFilter("없는면", null, null, null, null, null)));
+        assertEquals(List.of(2L), search("축제",
+                new PostSearchFilter(null, null, null, null, NOW.minusDays(60), NOW.minusDays(30))));
+    }
+
+    @Test
+    void snapshotRoundTripKeepsResults() throws IOException {
+        index.add(doc(1, "해미읍성 축제", "본문", "해미면", NOW));
+        index.add(doc(2, "대산 항만 소식", "본문", "대산읍", NOW));
+        index.add(doc(2, "대산 항만 공사", "본문", "대산읍", NOW.plusMinutes(1)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.writeTo(out);
+        }
+        PostInvertedIndex restored;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = PostInvertedIndex.readFrom(in, 20_000);
+        }
+        assertNotNull(restored);
+        assertEquals(index.liveDocs(), restored.liveDocs());
+        assertEquals(index.watermark(), restored.watermark());
+        assertEquals(search("항만", null), restored.search("항만", null, 10, TITLE_BOOST, HALF_DAYS));
+        assertEquals(List.of(1L), restored.search("해미읍성", null, 10, TITLE_BOOST, HALF_DAYS));
+    }
+
+    private List<Long> search(String query, PostSearchFilter filter) {
+        return index.search(query, filter, 10, TITLE_BOOST, HALF_DAYS);
+    }
+
+    private static PostInvertedIndex.Document doc(long id, String title, String content, String region, LocalDateTime at) {
+        return new PostInvertedIndex.Document(id, title, content, region, "NOTICE", null, at, at);
+    }
+}
@@ -0,0 +1,35 @@
+package org.likelionhsu.backend.post.service;
+
+import org.junit.jupiter.api.Test;
+import org.likelionhsu.backend.common.exception.customexception.PostCustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** 버전 붙은 커서 왕복, 정렬 키가 바뀌기 전(버전 없는 crawledAt) 커서 거절 */
+class FeedCursorTest {
+
+    @Test
+    void roundTrips() {
+        FeedCursor c = new FeedCursor(LocalDateTime.of(2025, 8, 16, 14, 30), 42L);
+        assertEquals(c, FeedCursor.decode(c.encode()));
+        assertNull(FeedCursor.decode(" "));
+    }
+
+    @Test
+    void rejectsUnversionedCursor() {
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-08-16T14:30|42".getBytes(StandardCharsets.UTF_8));
+        assertThrows(PostCustomException.class, () -> FeedCursor.decode(legacy));
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertThrows(PostCustomException.class, () -> FeedCursor.decode("not a cursor!"));
+    }
+}
@@ -0,0 +1,91 @@
+package org.likelionhsu.backend.post.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.likelionhsu.backend.post.cache.PostResponseCache;
+import org.likelionhsu.backend.post.repository.PostRepository;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 조회수 버퍼: 중복 조회 제거, flush 반영, DB 실패 시 다음 flush 에 재시도 */
+class PostViewCounterTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostResponseCache postResponseCache = mock(PostResponseCache.class);
+    private final PostViewCounter counter = new PostViewCounter(postRepository, postResponseCache, 30, 1_000);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counter, "enabled", true);
+    }
+
+    @Test
+    void flushesBufferedViewsAndSkipsRepeatViewer() {
+        counter.record(1L, "u1");
+        counter.record(1L, "u1");
+        counter.record(1L, "u2");
+        counter.record(2L, null);
+        counter.record(2L, null);
+
+        counter.flush();
+
+        verify(postRepository).addViews(Map.of(1L, 2L, 2L, 2L));
+        verify(postResponseCache).evictDetails(Set.of(1L, 2L)); // 상세의 views 가 flush 주기 이상 늦지 않게
+        PostViewCounter.ViewCounterStats s = counter.snapshot();
+        assertEquals(4, s.recorded());
+        assertEquals(1, s.deduped());
+        assertEquals(4, s.flushed());
+        assertEquals(0, s.pending());
+    }
+
+    @Test
+    void failedFlushIsRetriedWithMergedCounts() {
+        when(postRepository.addViews(anyMap())).thenThrow(new QueryTimeoutException("lock wait"));
+        counter.record(1L, null);
+        counter.record(1L, null);
+        counter.flush();
+        assertEquals(2, counter.snapshot().pending());
+        assertEquals(0, counter.snapshot().flushed());
+        verify(postResponseCache, never()).evictDetails(anyCollection());
+
+        doReturn(1).when(postRepository).addViews(anyMap());
+        counter.record(1L, null);
+        counter.flush();
+
+        verify(postRepository).addViews(Map.of(1L, 3L));
+        assertEquals(3, counter.snapshot().flushed());
+        assertEquals(0, counter.snapshot().pending());
+    }
+
+    @Test
+    void idlePostIsDroppedAfterTwoEmptyFlushesAndCountsAgainLater() {
+        counter.record(1L, null);
+        counter.flush();
+        counter.flush();
+        counter.flush(); // 두 번 연속 0 → 버퍼에서 제거
+        counter.record(1L, null);
+        counter.flush();
+
+        verify(postRepository, times(2)).addViews(Map.of(1L, 1L));
+        assertEquals(2, counter.snapshot().flushed());
+    }
+
+    @Test
+    void emptyBufferDoesNotTouchDatabase() {
+        counter.flush();
+        verify(postRepository, never()).addViews(anyMap());
+    }
+}